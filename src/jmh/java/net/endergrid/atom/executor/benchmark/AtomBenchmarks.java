@@ -0,0 +1,40 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.Atom;
+
+/**
+ * Initializes {@link Atom} for the benchmarks. The API ships without an implementation, so the benchmarks run against whatever
+ * implementation is on the classpath, initialized by the {@link Runnable} named by the {@value #BOOTSTRAP_PROPERTY} system property.
+ */
+final class AtomBenchmarks {
+    static final String BOOTSTRAP_PROPERTY = "atom.benchmark.bootstrap";
+
+    private AtomBenchmarks() {
+    }
+
+    static synchronized void bootstrap() {
+        if (isInitialized()) {
+            return;
+        }
+
+        final String bootstrap = System.getProperty(BOOTSTRAP_PROPERTY);
+        if (bootstrap == null) {
+            throw new IllegalStateException("Atom is not initialized, pass the class initializing the implementation with -D" + BOOTSTRAP_PROPERTY);
+        }
+
+        try {
+            ((Runnable) Class.forName(bootstrap).getDeclaredConstructor().newInstance()).run();
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Failed to bootstrap Atom through " + bootstrap, exception);
+        }
+    }
+
+    private static boolean isInitialized() {
+        try {
+            Atom.get();
+            return true;
+        } catch (IllegalStateException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.executor.AtomExecutor;
+import net.endergrid.atom.executor.AtomExecutorBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor types of {@link AtomExecutorBuilder.ExecutorTypeSelector} the benchmarks are run against,
+ * every type is built through the public builder with the same number of threads where the type allows it.
+ */
+public enum ExecutorKind {
+    WORK_STEALING {
+        @Override
+        Opened open(String name, int threads) {
+            return Opened.of(AtomExecutorBuilder.named(name).workStealing().withParallelism(threads).withDaemon(true).build());
+        }
+    },
+    DYNAMIC {
+        @Override
+        Opened open(String name, int threads) {
+            return Opened.of(AtomExecutorBuilder.named(name).dynamic().withCoreThreadCount(threads).withMaxThreadCount(threads).withDaemon(true).build());
+        }
+    },
+    GROUPED {
+        @Override
+        Opened open(String name, int threads) {
+            return Opened.of(AtomExecutorBuilder.named(name).grouped().withCoreThreadCount(threads).withMaxThreadCount(threads).withDaemon(true).build());
+        }
+    },
+    CACHED {
+        @Override
+        Opened open(String name, int threads) {
+            return Opened.of(AtomExecutorBuilder.named(name).cached().withDaemon(true).build());
+        }
+    },
+    WRAP {
+        @Override
+        Opened open(String name, int threads) {
+            final AtomicInteger counter = new AtomicInteger();
+            final ExecutorService backing = Executors.newFixedThreadPool(threads, task -> {
+                final Thread thread = new Thread(task, name + "-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            final AtomExecutor executor = AtomExecutorBuilder.named(name).wrap(backing)
+                    .withCurrentThreadPredicate(thread -> thread.getName().startsWith(name + "-"))
+                    .build();
+            return new Opened(executor, backing);
+        }
+    };
+
+    abstract Opened open(String name, int threads);
+
+    /**
+     * An executor built for a benchmark trial together with the executor it wraps, if any.
+     */
+    static final class Opened implements AutoCloseable {
+        final AtomExecutor executor;
+        private final ExecutorService backing;
+
+        private static Opened of(AtomExecutor executor) {
+            return new Opened(executor, null);
+        }
+
+        private Opened(AtomExecutor executor, ExecutorService backing) {
+            this.executor = executor;
+            this.backing = backing;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            this.executor.shutdownNow();
+            this.executor.awaitTermination(10, TimeUnit.SECONDS);
+            if (this.backing != null) {
+                this.backing.shutdownNow();
+                this.backing.awaitTermination(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
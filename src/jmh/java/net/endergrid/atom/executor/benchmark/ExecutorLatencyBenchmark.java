@@ -0,0 +1,70 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.executor.task.AtomTask;
+import net.endergrid.atom.executor.task.AtomTaskFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the end-to-end latency of a single task, from submission until the submitter observes its completion,
+ * for every executor type. Sampled, so the report includes the latency percentiles.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorLatencyBenchmark {
+    @Param
+    private ExecutorKind kind;
+
+    @Param({"4"})
+    private int threads;
+
+    private ExecutorKind.Opened opened;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AtomBenchmarks.bootstrap();
+        this.opened = this.kind.open("benchmark-latency", this.threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        this.opened.close();
+    }
+
+    @Benchmark
+    public void execute(Probe probe) {
+        probe.countdown.begin(1);
+        this.opened.executor.execute(probe.countdown);
+        probe.countdown.await();
+    }
+
+    @Benchmark
+    public long supplying() throws ExecutionException, InterruptedException {
+        final AtomTaskFuture<Long> future = AtomTask.immediate().buildSupplying(System::nanoTime);
+        this.opened.executor.execute(future);
+        return future.get();
+    }
+
+    @State(Scope.Thread)
+    public static class Probe {
+        private final Countdown countdown = new Countdown();
+    }
+}
@@ -0,0 +1,92 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.executor.task.AtomTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the sustained submission throughput of every executor type. Every invocation submits a batch of tasks
+ * and waits for the batch to drain, so the queue never grows past one batch per submitting thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ExecutorSubmissionBenchmark {
+    private static final int BATCH = 1024;
+
+    @Param
+    private ExecutorKind kind;
+
+    @Param({"4"})
+    private int threads;
+
+    private ExecutorKind.Opened opened;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AtomBenchmarks.bootstrap();
+        this.opened = this.kind.open("benchmark-submission", this.threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        this.opened.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void execute(Batch batch) {
+        batch.countdown.begin(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            this.opened.executor.execute(batch.countdown);
+        }
+
+        batch.countdown.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void executeAll(Batch batch) {
+        batch.countdown.begin(BATCH);
+        this.opened.executor.executeAll(batch.tasks);
+        batch.countdown.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void executeTask(Batch batch) {
+        batch.countdown.begin(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            this.opened.executor.execute(AtomTask.immediate().build(batch.countdown));
+        }
+
+        batch.countdown.await();
+    }
+
+    @State(Scope.Thread)
+    public static class Batch {
+        private final Countdown countdown = new Countdown();
+        private final List<Runnable> tasks = Collections.nCopies(BATCH, this.countdown);
+    }
+}
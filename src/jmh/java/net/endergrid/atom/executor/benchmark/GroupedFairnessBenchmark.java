@@ -0,0 +1,136 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.executor.AtomExecutorBuilder;
+import net.endergrid.atom.executor.grouped.AtomGroupedExecutor;
+import net.endergrid.atom.executor.grouped.GroupedRunnable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a grouped executor treats rare groups while a few hot groups receive most of the tasks.
+ * In the {@code skewed} group three threads keep the hot groups saturated while a fourth samples the latency of tasks
+ * spread over many cold groups, {@link #uncontended(Probe)} samples the same latency without the hot load as the baseline.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class GroupedFairnessBenchmark {
+    private static final int COLD_GROUPS = 1024;
+
+    @Param({"1", "4", "16"})
+    private int hotGroups;
+
+    @Param({"4"})
+    private int threads;
+
+    @Param({"256"})
+    private int maxHotInFlight;
+
+    @Param({"100"})
+    private int work;
+
+    private AtomGroupedExecutor<Integer> executor;
+    private Semaphore hotInFlight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AtomBenchmarks.bootstrap();
+        this.executor = AtomExecutorBuilder.named("benchmark-grouped-fairness").<Integer>grouped()
+                .withCoreThreadCount(this.threads)
+                .withMaxThreadCount(this.threads)
+                .withDaemon(true)
+                .build();
+        this.hotInFlight = new Semaphore(this.maxHotInFlight);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        this.executor.shutdownNow();
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(3)
+    public void hot(Submitter submitter) throws InterruptedException {
+        this.hotInFlight.acquire();
+        final int work = this.work;
+        this.executor.execute(new KeyedTask(submitter.next(this.hotGroups), () -> {
+            Blackhole.consumeCPU(work);
+            this.hotInFlight.release();
+        }));
+    }
+
+    @Benchmark
+    @Group("skewed")
+    @GroupThreads(1)
+    public void cold(Probe probe) {
+        probe.run(this.executor);
+    }
+
+    @Benchmark
+    public void uncontended(Probe probe) {
+        probe.run(this.executor);
+    }
+
+    @State(Scope.Thread)
+    public static class Submitter {
+        private int sequence;
+
+        private int next(int groups) {
+            return this.sequence++ % groups;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Probe {
+        private final Countdown countdown = new Countdown();
+        private int sequence;
+
+        private void run(AtomGroupedExecutor<Integer> executor) {
+            this.countdown.begin(1);
+            executor.execute(new KeyedTask(-1 - this.sequence++ % COLD_GROUPS, this.countdown));
+            this.countdown.await();
+        }
+    }
+
+    private static final class KeyedTask implements GroupedRunnable<Integer> {
+        private final Integer groupId;
+        private final Runnable task;
+
+        private KeyedTask(Integer groupId, Runnable task) {
+            this.groupId = groupId;
+            this.task = task;
+        }
+
+        @Override
+        public Integer getGroupId() {
+            return this.groupId;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package net.endergrid.atom.executor.benchmark;
+
+import net.endergrid.atom.executor.AtomExecutor;
+import net.endergrid.atom.executor.task.AtomTask;
+import net.endergrid.atom.executor.task.AtomTaskBuilder;
+import net.endergrid.atom.executor.task.AtomTaskScheduled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the cost of scheduling and cancelling a timer while the scheduler already holds a given number of pending timers.
+ * The pending timers fire an hour from now at the earliest, so none of them runs during the benchmark,
+ * and every benchmarked timer is cancelled again, keeping the number of pending timers stable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSchedulerBenchmark {
+    private static final Consumer<AtomTaskScheduled> NOOP = task -> {
+    };
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int pending;
+
+    @Param
+    private Timer timer;
+
+    private ExecutorKind.Opened opened;
+    private List<AtomTaskScheduled> timers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AtomBenchmarks.bootstrap();
+        this.opened = ExecutorKind.WORK_STEALING.open("benchmark-scheduler", 1);
+        this.timers = new ArrayList<>(this.pending);
+        for (int i = 0; i < this.pending; i++) {
+            this.timers.add(this.timer.schedule(this.opened.executor, i % 3600).build(NOOP));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        for (final AtomTaskScheduled timer : this.timers) {
+            timer.cancel(false);
+        }
+
+        this.timers = null;
+        this.opened.close();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        return this.schedule().cancel(false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean scheduleAndCancelContended() {
+        return this.schedule().cancel(false);
+    }
+
+    private AtomTaskScheduled schedule() {
+        return this.timer.schedule(this.opened.executor, ThreadLocalRandom.current().nextInt(3600)).build(NOOP);
+    }
+
+    public enum Timer {
+        DELAY {
+            @Override
+            AtomTaskBuilder.ScheduledBuildStage configure(AtomTaskBuilder.ScheduledStage stage, long delaySeconds) {
+                return stage.withDelay(TimeUnit.HOURS.toSeconds(1) + delaySeconds, TimeUnit.SECONDS);
+            }
+        },
+        FIXED_RATE {
+            @Override
+            AtomTaskBuilder.ScheduledBuildStage configure(AtomTaskBuilder.ScheduledStage stage, long delaySeconds) {
+                return stage.withFixedRate(TimeUnit.HOURS.toSeconds(1) + delaySeconds, TimeUnit.HOURS.toSeconds(1), TimeUnit.SECONDS);
+            }
+        };
+
+        abstract AtomTaskBuilder.ScheduledBuildStage configure(AtomTaskBuilder.ScheduledStage stage, long delaySeconds);
+
+        private AtomTaskBuilder.ScheduledBuildStage schedule(AtomExecutor executor, long delaySeconds) {
+            return this.configure(AtomTask.scheduled(), delaySeconds).withDelegateExecutor(executor);
+        }
+    }
+}
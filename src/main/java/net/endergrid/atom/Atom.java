@@ -1,6 +1,7 @@
 package net.endergrid.atom;
 
 import net.endergrid.atom.executor.AtomExecutorRegistry;
+import net.endergrid.atom.profiler.AtomStartupProfiler;
 import net.endergrid.atom.singleton.AtomSingletonRegistry;
 import lombok.NonNull;
 
@@ -25,12 +26,15 @@ public interface Atom {
     class Instance {
         protected static Atom INSTANCE;
 
+        @SuppressWarnings("try")
         protected static synchronized void setInstance(@NonNull Atom atom) {
-            if (INSTANCE != null) {
-                throw new IllegalStateException("Atom already initialized");
-            }
+            try (AtomStartupProfiler.Span ignored = AtomStartupProfiler.begin(AtomStartupProfiler.CATEGORY_BOOTSTRAP, "Atom.Instance.setInstance")) {
+                if (INSTANCE != null) {
+                    throw new IllegalStateException("Atom already initialized");
+                }
 
-            INSTANCE = atom;
+                INSTANCE = atom;
+            }
         }
     }
 }
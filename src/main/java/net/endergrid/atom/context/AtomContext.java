@@ -0,0 +1,236 @@
+package net.endergrid.atom.context;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * An immutable key/value map that follows work across thread hops, such as trace or tenant identifiers.
+ * <p>
+ * Every Atom executor captures {@link #current()} when a task is submitted or built and restores it around the execution of the task,
+ * the same applies to handlers run by event {@code postAsync}. Modifications create a copy, so a captured context can never change.
+ * <p>
+ * Tasks submitted without a context run with the empty context attached, so they never inherit the context
+ * that happens to be attached to the executing thread, such as a tick thread or a caller-runs thread working for another tenant.
+ * Executors keep the captured context in their task node and run it through {@link #runWith(AtomContext, Runnable)},
+ * so an empty context costs a thread local read and no allocation.
+ */
+public final class AtomContext {
+    private static final AtomContext EMPTY = new AtomContext(new Key<?>[0], new Object[0]);
+    private static final ThreadLocal<AtomContext> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP_SCOPE = () -> {};
+
+    private final Key<?>[] keys;
+    private final Object[] values;
+
+    private AtomContext(Key<?>[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * @return the empty context
+     */
+    public static AtomContext empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the context attached to the current thread.
+     *
+     * @return the current context, or {@link #empty()} if none is attached
+     */
+    public static AtomContext current() {
+        final AtomContext context = CURRENT.get();
+        return context == null ? EMPTY : context;
+    }
+
+    /**
+     * Wraps the task so it runs with the current context attached.
+     *
+     * @param task the task to wrap
+     * @return the wrapped task
+     */
+    public static Runnable capture(@NonNull Runnable task) {
+        return current().wrap(task);
+    }
+
+    /**
+     * Gets the value associated with the key.
+     *
+     * @param key the key of the value
+     * @param <T> the type of the value
+     * @return the value, or {@code null} if the key is not present
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Key<T> key) {
+        final int index = this.indexOf(key);
+        return index == -1 ? null : (T) this.values[index];
+    }
+
+    /**
+     * Creates a copy of this context with the key associated with the value.
+     *
+     * @param key   the key of the value
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return a new context containing the value
+     */
+    public <T> AtomContext with(@NonNull Key<T> key, @NonNull T value) {
+        final int index = this.indexOf(key);
+        if (index != -1) {
+            if (this.values[index] == value) {
+                return this;
+            }
+
+            final Object[] values = this.values.clone();
+            values[index] = value;
+            return new AtomContext(this.keys, values);
+        }
+
+        final Key<?>[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+        final Object[] values = Arrays.copyOf(this.values, this.values.length + 1);
+        keys[this.keys.length] = key;
+        values[this.values.length] = value;
+        return new AtomContext(keys, values);
+    }
+
+    /**
+     * Creates a copy of this context without the key.
+     *
+     * @param key the key to remove
+     * @return a new context without the key, or this context if the key is not present
+     */
+    public AtomContext without(@NonNull Key<?> key) {
+        final int index = this.indexOf(key);
+        if (index == -1) {
+            return this;
+        }
+
+        if (this.keys.length == 1) {
+            return EMPTY;
+        }
+
+        final Key<?>[] keys = new Key<?>[this.keys.length - 1];
+        final Object[] values = new Object[this.values.length - 1];
+        System.arraycopy(this.keys, 0, keys, 0, index);
+        System.arraycopy(this.values, 0, values, 0, index);
+        System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+        System.arraycopy(this.values, index + 1, values, index, values.length - index);
+        return new AtomContext(keys, values);
+    }
+
+    /**
+     * @return {@code true} if the context contains no values, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return this.keys.length == 0;
+    }
+
+    /**
+     * Attaches this context to the current thread until the returned scope is closed.
+     *
+     * @return the scope restoring the previously attached context on close
+     */
+    public Scope attach() {
+        final AtomContext previous = CURRENT.get();
+        if (previous == this) {
+            return NOOP_SCOPE;
+        }
+
+        CURRENT.set(this);
+        return () -> CURRENT.set(previous);
+    }
+
+    /**
+     * Wraps the task so it runs with this context attached, an empty context detaches the context of the executing thread while the task runs.
+     *
+     * @param task the task to wrap
+     * @return the wrapped task
+     */
+    public Runnable wrap(@NonNull Runnable task) {
+        return () -> runWith(this, task);
+    }
+
+    /**
+     * Runs the task with the captured context attached, an empty context detaches the context of the executing thread while the task runs.
+     * <p>
+     * Executors store {@link #current()} in their own task node on submission and call this method at execution time,
+     * which allocates nothing and skips touching the thread local if the context is already attached.
+     *
+     * @param captured the context captured on submission
+     * @param task     the task to run
+     */
+    public static void runWith(@NonNull AtomContext captured, @NonNull Runnable task) {
+        final AtomContext previous = CURRENT.get();
+        if (previous == captured || previous == null && captured.isEmpty()) {
+            task.run();
+            return;
+        }
+
+        CURRENT.set(captured);
+        try {
+            task.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    private int indexOf(Key<?> key) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("AtomContext{");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (i != 0) {
+                builder.append(", ");
+            }
+
+            builder.append(this.keys[i].name).append('=').append(this.values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A scope of an attached context, closing it restores the previously attached context.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * A key of a context value, keys are compared by identity and are meant to be stored in constants.
+     *
+     * @param <T> the type of the value
+     */
+    @Getter
+    public static final class Key<T> {
+        private final String name;
+
+        private Key(String name) {
+            this.name = name;
+        }
+
+        public static <T> Key<T> named(@NonNull String name) {
+            return new Key<>(name);
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package net.endergrid.atom.event;
 
 import lombok.NonNull;
-import net.endergrid.atom.Atom;
 import net.endergrid.atom.event.group.AtomEventGroup;
 import net.endergrid.atom.event.handler.AtomEventRegistration;
+import net.endergrid.atom.singleton.AtomSingletonSlot;
 
 public interface AtomEventObjectFactory {
     static AtomEventObjectFactory get() {
-        return Atom.get().getSingletonManager().getSingleton(AtomEventObjectFactory.class);
+        return Holder.SLOT.get();
     }
 
     <T> AtomEventRegistration.Builder<T> createEventHandlerRegistrationBuilder();
 
     <E> AtomEventGroup<E> createEventGroup(@NonNull Class<E> clazz);
+
+    final class Holder {
+        private static final AtomSingletonSlot<AtomEventObjectFactory> SLOT = AtomSingletonSlot.of(AtomEventObjectFactory.class);
+    }
 }
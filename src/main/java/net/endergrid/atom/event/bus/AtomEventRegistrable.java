@@ -28,6 +28,7 @@ public interface AtomEventRegistrable<EVENT> {
 
     /**
      * Posts an event asynchronously, executing handlers in a separate thread.
+     * The {@link net.endergrid.atom.context.AtomContext#current()} of the caller is attached while the handlers run.
      *
      * @param event    the event to post
      * @param executor the executor to run the handlers, or null to use the default
@@ -1,7 +1,10 @@
 package net.endergrid.atom.executor;
 
 import dev.oop778.bindings.type.Bindable;
+import lombok.NonNull;
+import net.endergrid.atom.context.AtomContext;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -9,16 +12,48 @@ import java.util.concurrent.TimeUnit;
 /**
  * Represents an executor that can execute tasks asynchronously. It extends the {@link Executor} interface
  * and the {@link Bindable} interface, allowing it to be used in a variety of contexts.
+ * <p>
+ * Every AtomExecutor captures the {@link AtomContext#current()} on submission and restores it around the execution of the task.
  */
 public interface AtomExecutor extends Executor, Bindable {
 
     /**
      * Checks if the current thread is part of the AtomExecutor.
+     * For threads owned by the executor this is a single comparison against {@link AtomExecutorThread#getOwningExecutor()}.
      *
      * @return {@code true} if the current thread is part of the AtomExecutor, {@code false} otherwise.
      */
     boolean isCurrentThreadPartOfExecutor();
 
+    /**
+     * Runs the task inline if the current thread is part of the executor, otherwise executes it on the executor.
+     * <p>
+     * {@code NOTE}: An inline run bypasses the admission of the executor, the task never enters its queue,
+     * so queue bounds and {@link AtomRejectionPolicy rejection policies} do not apply to it.
+     * Executors whose admission rules must hold for every task, such as grouped and rate-limited executors, override this method to always execute.
+     *
+     * @param task the task to run or execute
+     */
+    default void executeOrRun(@NonNull Runnable task) {
+        if (this.isCurrentThreadPartOfExecutor()) {
+            task.run();
+        } else {
+            this.execute(task);
+        }
+    }
+
+    /**
+     * Executes all the given tasks. Implementations enqueue the whole batch in one operation,
+     * the default implementation falls back to calling {@link #execute(Runnable)} for each task.
+     *
+     * @param tasks the tasks to execute
+     */
+    default void executeAll(@NonNull Collection<? extends Runnable> tasks) {
+        for (final Runnable task : tasks) {
+            this.execute(task);
+        }
+    }
+
     /**
      * Initiates an orderly shutdown of the executor. Previously submitted tasks are executed,
      * but no new tasks will be accepted.
@@ -49,6 +84,15 @@ public interface AtomExecutor extends Executor, Bindable {
      */
     boolean isTerminated();
 
+    /**
+     * Returns the number of tasks rejected because the queue of the executor was full.
+     *
+     * @return the number of rejected tasks, always {@code 0} for executors with an unbounded queue.
+     */
+    default long getRejectedTaskCount() {
+        return 0;
+    }
+
     /**
      * Blocks until all tasks have completed execution after a shutdown request, or the timeout
      * occurs, or the current thread is interrupted, whichever happens first.
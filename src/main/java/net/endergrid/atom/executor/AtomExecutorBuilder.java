@@ -3,11 +3,18 @@ package net.endergrid.atom.executor;
 import dev.oop778.bindings.type.Bindable;
 import lombok.NonNull;
 import net.endergrid.atom.executor.grouped.AtomGroupedExecutor;
+import net.endergrid.atom.executor.monitor.AtomExecutorStall;
+import net.endergrid.atom.executor.prioritized.AtomPrioritizedExecutor;
+import net.endergrid.atom.executor.ratelimited.AtomRateLimitedExecutor;
+import net.endergrid.atom.executor.task.AtomTaskPriority;
+import net.endergrid.atom.executor.ticked.AtomTickedExecutor;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * An interface for building instances of {@link AtomExecutor}.
@@ -69,6 +76,28 @@ public interface AtomExecutorBuilder {
          * @return a {@link CachedThreadPoolBuilder} stage for further configuration
          */
         CachedThreadPoolBuilder cached();
+
+        /**
+         * Selects a ticked executor that is drained by an external tick loop instead of owning threads.
+         *
+         * @return a {@link TickedExecutorBuilder} stage for further configuration
+         */
+        TickedExecutorBuilder ticked();
+
+        /**
+         * Selects a prioritized executor that serves tasks from one lane per {@link AtomTaskPriority}.
+         *
+         * @return a {@link PrioritizedExecutorBuilder} stage for further configuration
+         */
+        PrioritizedExecutorBuilder prioritized();
+
+        /**
+         * Selects a rate-limited executor wrapping an existing {@link AtomExecutor}.
+         *
+         * @param delegate the executor the tasks are passed to once a permit is available
+         * @return a {@link RateLimitedExecutorBuilder} stage for further configuration
+         */
+        RateLimitedExecutorBuilder rateLimited(@NonNull AtomExecutor delegate);
     }
 
     /**
@@ -94,14 +123,27 @@ public interface AtomExecutorBuilder {
     /**
      * A stage in the builder process for wrapping an existing executor.
      */
-    interface WrappedExecutorConfiguration {
+    interface WrappedExecutorConfiguration extends Builder<AtomExecutor> {
         /**
          * Configures a detector function to determine if the current thread is part of the executor.
          *
          * @param detector a function that detects if a thread is part of the executor
          * @return the current {@link WrappedExecutorConfiguration} stage for further configuration
+         * @deprecated boxes a {@link Boolean} on every check, use {@link #withCurrentThreadPredicate(Predicate)} instead
+         */
+        @Deprecated
+        default WrappedExecutorConfiguration withCurrentThreadDetector(Function<Thread, Boolean> detector) {
+            return this.withCurrentThreadPredicate(detector::apply);
+        }
+
+        /**
+         * Configures a predicate to determine if the current thread is part of the executor.
+         * Unlike {@link #withCurrentThreadDetector(Function)}, the predicate returns a primitive and does not allocate per check.
+         *
+         * @param predicate a predicate that tests if a thread is part of the executor
+         * @return the current {@link WrappedExecutorConfiguration} stage for further configuration
          */
-        WrappedExecutorConfiguration withCurrentThreadDetector(Function<Thread, Boolean> detector);
+        WrappedExecutorConfiguration withCurrentThreadPredicate(@NonNull Predicate<Thread> predicate);
     }
 
     /**
@@ -126,6 +168,35 @@ public interface AtomExecutorBuilder {
          * @return the current builder stage for further configuration
          */
         B withDaemon(boolean daemon);
+
+        /**
+         * Enables stall detection for the executor. A background monitor reports the executor once every worker
+         * has been busy for longer than the threshold while the queue keeps growing.
+         *
+         * @param threshold the time every worker has to be busy before the executor is considered stalled
+         * @param unit      the time unit for the threshold
+         * @param listener  the listener receiving the stall reports, including stack traces and task names of the stuck workers
+         * @return the current builder stage for further configuration
+         */
+        B withStallDetection(long threshold, TimeUnit unit, @NonNull Consumer<AtomExecutorStall> listener);
+    }
+
+    /**
+     * A builder interface for configuring the task queue of a thread pool.
+     *
+     * @param <EXECUTOR> the type of executor being built
+     * @param <B>        the type of the builder for method chaining
+     */
+    interface QueueConfigurationBuilder<EXECUTOR extends AtomExecutor, B extends QueueConfigurationBuilder<EXECUTOR, B>> extends ExecutorConfigurationBuilder<EXECUTOR, B> {
+        /**
+         * Uses a bounded, array-backed lock-free queue instead of the default unbounded queue.
+         * Rejected tasks are counted by {@link AtomExecutor#getRejectedTaskCount()}.
+         *
+         * @param capacity        the capacity of the queue, rounded up to the next power of two
+         * @param rejectionPolicy the policy handling tasks submitted while the queue is full
+         * @return the current builder stage for further configuration
+         */
+        B withBoundedQueue(int capacity, @NonNull AtomRejectionPolicy rejectionPolicy);
     }
 
     /**
@@ -134,7 +205,7 @@ public interface AtomExecutorBuilder {
      * @param <EXECUTOR> the type of executor being built
      * @param <B>        the type of the builder for method chaining
      */
-    interface DynamicThreadPoolConfigurationBuilder<EXECUTOR extends AtomExecutor, B extends DynamicThreadPoolConfigurationBuilder<EXECUTOR, B>> extends ExecutorConfigurationBuilder<EXECUTOR, B> {
+    interface DynamicThreadPoolConfigurationBuilder<EXECUTOR extends AtomExecutor, B extends DynamicThreadPoolConfigurationBuilder<EXECUTOR, B>> extends QueueConfigurationBuilder<EXECUTOR, B> {
         /**
          * Sets the core number of threads for the executor.
          *
@@ -181,6 +252,52 @@ public interface AtomExecutorBuilder {
      * @param <T> the type of tasks handled by the grouped executor
      */
     interface GroupedExecutorBuilder<T> extends DynamicThreadPoolConfigurationBuilder<AtomGroupedExecutor<T>, GroupedExecutorBuilder<T>> {
+        /**
+         * Bounds the tasks waiting for each group separately, a full group only rejects tasks of its own group.
+         * {@link AtomRejectionPolicy.Default#DISCARD_OLDEST} discards the oldest waiting task of the same group,
+         * so a busy group can never displace the tasks of another group.
+         *
+         * @param capacity        the maximum number of waiting tasks per group, rounded up to the next power of two
+         * @param rejectionPolicy the policy handling tasks submitted while the queue of their group is full
+         * @return the current builder stage for further configuration
+         */
+        @Override
+        GroupedExecutorBuilder<T> withBoundedQueue(int capacity, @NonNull AtomRejectionPolicy rejectionPolicy);
+    }
+
+    /**
+     * A builder interface for creating a prioritized executor.
+     */
+    interface PrioritizedExecutorBuilder extends DynamicThreadPoolConfigurationBuilder<AtomPrioritizedExecutor, PrioritizedExecutorBuilder> {
+        /**
+         * Bounds every priority lane separately, a full lane only rejects tasks of its own priority.
+         * {@link AtomRejectionPolicy.Default#DISCARD_OLDEST} discards the oldest task of the same lane,
+         * so a lower priority task can never displace a higher priority one. Tasks promoted by aging are admitted to the higher lane even if it is full.
+         *
+         * @param capacity        the capacity of each lane, rounded up to the next power of two
+         * @param rejectionPolicy the policy handling tasks submitted while their lane is full
+         * @return the current builder stage for further configuration
+         */
+        @Override
+        PrioritizedExecutorBuilder withBoundedQueue(int capacity, @NonNull AtomRejectionPolicy rejectionPolicy);
+
+        /**
+         * Overrides the weight of the lane for the given priority.
+         *
+         * @param priority the priority of the lane
+         * @param weight   the share of dequeues the lane gets relative to the other lanes, must be positive
+         * @return the current builder stage for further configuration
+         */
+        PrioritizedExecutorBuilder withLaneWeight(@NonNull AtomTaskPriority priority, int weight);
+
+        /**
+         * Sets after how long a waiting task is promoted to the next higher lane.
+         *
+         * @param threshold the aging threshold
+         * @param unit      the time unit for the aging threshold
+         * @return the current builder stage for further configuration
+         */
+        PrioritizedExecutorBuilder withAgingThreshold(long threshold, TimeUnit unit);
     }
 
     /**
@@ -197,15 +314,70 @@ public interface AtomExecutorBuilder {
 
         /**
          * Configures the executor to operate in asynchronous mode.
+         * Tasks forked onto a worker's local deque are then run in FIFO order instead of LIFO order.
          *
          * @return the current builder stage for further configuration
          */
         WorkStealingExecutorBuilder withAsyncMode();
+
+        /**
+         * Sets whether tasks submitted from one of the executor's own workers are pushed onto that worker's local deque
+         * (fork semantics) instead of the shared submission queue. Enabled by default.
+         * <p>
+         * Local tasks are run in LIFO order, or FIFO order if {@link #withAsyncMode()} is set, and can be stolen by idle workers.
+         *
+         * @param localSubmission true to push tasks submitted from workers onto their local deque, false to always use the shared queue
+         * @return the current builder stage for further configuration
+         */
+        WorkStealingExecutorBuilder withLocalSubmission(boolean localSubmission);
     }
 
     /**
      * A builder interface for creating a cached thread pool executor.
      */
-    interface CachedThreadPoolBuilder extends ExecutorConfigurationBuilder<AtomExecutor, CachedThreadPoolBuilder> {
+    interface CachedThreadPoolBuilder extends QueueConfigurationBuilder<AtomExecutor, CachedThreadPoolBuilder> {
+    }
+
+    /**
+     * A builder interface for creating a ticked executor.
+     */
+    interface TickedExecutorBuilder extends Builder<AtomTickedExecutor> {
+        /**
+         * Sets the time budget a single tick is allowed to spend executing tasks, for example 5ms of a 50ms tick.
+         *
+         * @param budget the tick budget
+         * @param unit   the time unit for the tick budget
+         * @return the current builder stage for further configuration
+         */
+        TickedExecutorBuilder withTickBudget(long budget, TimeUnit unit);
+
+        /**
+         * Sets after how many ticks a carried over task is aged, aged tasks are moved to the front of the queue and served first within the budget.
+         *
+         * @param ticks the number of ticks a task may be carried over before it is aged
+         * @return the current builder stage for further configuration
+         */
+        TickedExecutorBuilder withMaxCarryOverTicks(int ticks);
+    }
+
+    /**
+     * A builder interface for creating a rate-limited executor.
+     */
+    interface RateLimitedExecutorBuilder extends Builder<AtomRateLimitedExecutor> {
+        /**
+         * Sets the number of permits that are refilled every second.
+         *
+         * @param permitsPerSecond the permits per second, must be positive
+         * @return the current builder stage for further configuration
+         */
+        RateLimitedExecutorBuilder withPermitsPerSecond(double permitsPerSecond);
+
+        /**
+         * Sets the maximum number of permits that can be accumulated while idle, defaults to a single permit.
+         *
+         * @param burstSize the burst size, must be positive
+         * @return the current builder stage for further configuration
+         */
+        RateLimitedExecutorBuilder withBurstSize(int burstSize);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,20 @@
 package net.endergrid.atom.executor;
 
+import dev.oop778.bindings.type.Bindable;
 import lombok.NonNull;
-import net.endergrid.atom.Atom;
 import net.endergrid.atom.executor.task.AtomTaskBuilder;
+import net.endergrid.atom.executor.task.AtomTaskFuture;
+import net.endergrid.atom.executor.task.AtomTaskScope;
+import net.endergrid.atom.singleton.AtomSingletonSlot;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
 
 public interface AtomExecutorFactory {
     static AtomExecutorFactory get() {
-        return Atom.get().getSingletonManager().getSingleton(AtomExecutorFactory.class);
+        return Holder.SLOT.get();
     }
 
     /**
@@ -23,4 +31,59 @@ public interface AtomExecutorFactory {
      * @return a new {@link AtomExecutorBuilder.ExecutorTypeSelector} instance
      */
     AtomExecutorBuilder.ExecutorTypeSelector createAtomExecutorBuilder(@NonNull String name);
+
+    /**
+     * Creates a new open {@link AtomTaskScope}.
+     *
+     * @param name   the name of the scope
+     * @param parent an optional bindable the scope is bound to
+     * @return a new open {@link AtomTaskScope}
+     */
+    AtomTaskScope createTaskScope(@NonNull String name, @Nullable Bindable parent);
+
+    /**
+     * Creates a future that completes once all the given futures completed, backed by a single shared countdown.
+     * <p>
+     * The aggregates created by {@link #allOf(Collection)}, {@link #anyOf(Collection)} and {@link #reduce(Collection, Object, BiFunction)}
+     * share the following rules:
+     * <ul>
+     *     <li>A cancelled input counts as failed with a {@link java.util.concurrent.CancellationException}.</li>
+     *     <li>Cancelling the aggregate cancels every input that has not completed yet, passing on {@code mayInterruptIfRunning}.</li>
+     *     <li>Completing the aggregate never cancels inputs, the remaining inputs of a completed {@link #anyOf(Collection)} keep running.</li>
+     * </ul>
+     *
+     * @param futures the futures to wait for
+     * @param <T>     the type of the results
+     * @return a future holding the results in the order of the given futures, failing with the first failure,
+     * already completed with an empty list if no futures are given
+     */
+    <T> AtomTaskFuture<List<T>> allOf(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures);
+
+    /**
+     * Creates a future that completes with the result of the first of the given futures to complete,
+     * see {@link #allOf(Collection)} for cancellation.
+     *
+     * @param futures the futures to wait for
+     * @param <T>     the type of the results
+     * @return a future holding the first result, failing with the last failure only if all the given futures failed,
+     * already failed with a {@link java.util.NoSuchElementException} if no futures are given
+     */
+    <T> AtomTaskFuture<T> anyOf(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures);
+
+    /**
+     * Creates a future that folds the results of all the given futures once they completed, backed by a single shared countdown,
+     * see {@link #allOf(Collection)} for cancellation.
+     *
+     * @param futures     the futures to wait for
+     * @param identity    the initial value of the reduction
+     * @param accumulator the function folding a result into the reduction, results are folded in the order of the given futures
+     * @param <T>         the type of the results
+     * @param <R>         the type of the reduction
+     * @return a future holding the reduction, failing with the first failure, already completed with the identity if no futures are given
+     */
+    <T, R> AtomTaskFuture<R> reduce(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures, R identity, @NonNull BiFunction<R, ? super T, R> accumulator);
+
+    final class Holder {
+        private static final AtomSingletonSlot<AtomExecutorFactory> SLOT = AtomSingletonSlot.of(AtomExecutorFactory.class);
+    }
 }
@@ -4,6 +4,10 @@ import dev.oop778.bindings.type.Bindable;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 public interface AtomExecutorRegistry {
 
     /**
@@ -22,4 +26,63 @@ public interface AtomExecutorRegistry {
      * @param bindable the optional {@link Bindable} instance to associate with the executor
      */
     void register(@NonNull AtomExecutor executor, @Nullable Bindable bindable);
+
+    /**
+     * Declares that the tasks of one executor depend on another executor, for example because they submit work to it.
+     * During {@link #shutdownAll(long, TimeUnit)} the dependency is only shut down once the dependent executor terminated.
+     *
+     * @param executor   the name of the dependent executor
+     * @param dependency the name of the executor it depends on
+     * @throws IllegalArgumentException if the dependency would introduce a cycle
+     */
+    void declareDependency(@NonNull String executor, @NonNull String dependency);
+
+    /**
+     * Shuts down all registered executors in dependency order. Executors that do not depend on each other are drained in parallel.
+     * <p>
+     * Executors that did not terminate before the global deadline are shut down via {@link AtomExecutor#shutdownNow()}
+     * and their stranded tasks are reported.
+     *
+     * @param timeout the maximum time to wait for all executors to terminate
+     * @param unit    the time unit of the timeout argument
+     * @return a report describing the shutdown
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ShutdownReport shutdownAll(long timeout, @NonNull TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Describes the outcome of {@link #shutdownAll(long, TimeUnit)}.
+     */
+    interface ShutdownReport {
+        /**
+         * Gets the names of the executors that terminated gracefully before the deadline.
+         *
+         * @return the names of the terminated executors
+         */
+        List<String> getTerminatedExecutors();
+
+        /**
+         * Gets the tasks that never commenced execution, keyed by the name of the executor
+         * that was forcefully shut down after the deadline.
+         *
+         * @return the stranded tasks per executor
+         */
+        Map<String, List<Runnable>> getStrandedTasks();
+
+        /**
+         * Gets the time the whole shutdown took in nanoseconds.
+         *
+         * @return the duration of the shutdown in nanoseconds
+         */
+        long getDurationNs();
+
+        /**
+         * Checks if all executors terminated gracefully before the deadline.
+         *
+         * @return {@code true} if no executor had to be forcefully shut down, {@code false} otherwise
+         */
+        default boolean isClean() {
+            return this.getStrandedTasks().isEmpty();
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package net.endergrid.atom.executor;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Implemented by threads owned by an {@link AtomExecutor}. Owned threads are tagged with their executor on creation,
+ * which makes {@link AtomExecutor#isCurrentThreadPartOfExecutor()} a single field comparison.
+ */
+public interface AtomExecutorThread {
+    /**
+     * Gets the executor owning the current thread.
+     *
+     * @return the executor owning the current thread, or {@code null} if the current thread is not owned by an {@link AtomExecutor}
+     */
+    @Nullable
+    static AtomExecutor currentExecutor() {
+        final Thread thread = Thread.currentThread();
+        return thread instanceof AtomExecutorThread ? ((AtomExecutorThread) thread).getOwningExecutor() : null;
+    }
+
+    /**
+     * Gets the executor this thread was created for.
+     *
+     * @return the executor owning this thread
+     */
+    AtomExecutor getOwningExecutor();
+}
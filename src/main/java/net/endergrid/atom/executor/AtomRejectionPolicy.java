@@ -0,0 +1,97 @@
+package net.endergrid.atom.executor;
+
+import lombok.NonNull;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defines what happens with a task that cannot be accepted by an executor with a bounded queue.
+ * The {@link Default} enum provides the common policies.
+ * <p>
+ * You can create your own policy by implementing the {@link AtomRejectionPolicy} interface.
+ */
+@FunctionalInterface
+public interface AtomRejectionPolicy {
+    /**
+     * Creates a policy that blocks the submitter until space in the queue becomes available or the timeout elapses,
+     * the task is rejected with a {@link RejectedExecutionException} after the timeout.
+     *
+     * @param timeout the maximum time to wait for space in the queue
+     * @param unit    the time unit of the timeout
+     * @return a blocking rejection policy
+     */
+    static AtomRejectionPolicy blocking(long timeout, @NonNull TimeUnit unit) {
+        final long timeoutNs = unit.toNanos(timeout);
+        return (Blocking) () -> timeoutNs;
+    }
+
+    /**
+     * Handles a task that could not be accepted by the executor.
+     *
+     * @param task     the rejected task
+     * @param executor the executor that rejected the task
+     */
+    void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor);
+
+    /**
+     * A policy that is handled by the executor itself by waiting for space in the queue,
+     * {@link #rejected(Runnable, AtomExecutor)} is only called once the timeout elapsed.
+     */
+    @FunctionalInterface
+    interface Blocking extends AtomRejectionPolicy {
+        /**
+         * @return the maximum time to wait for space in the queue in nanoseconds
+         */
+        long getTimeoutNs();
+
+        @Override
+        default void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor) {
+            throw new RejectedExecutionException("Task " + task + " rejected after waiting " + this.getTimeoutNs() + "ns for space in the queue");
+        }
+    }
+
+    enum Default implements AtomRejectionPolicy {
+        /**
+         * Rejects the task with a {@link RejectedExecutionException}.
+         */
+        ABORT {
+            @Override
+            public void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor) {
+                throw new RejectedExecutionException("Task " + task + " rejected, the queue is full");
+            }
+        },
+        /**
+         * Runs the task on the submitting thread, unless the executor has been shut down.
+         */
+        CALLER_RUNS {
+            @Override
+            public void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor) {
+                if (!executor.isShutdown()) {
+                    task.run();
+                }
+            }
+        },
+        /**
+         * Silently drops the task.
+         */
+        DISCARD {
+            @Override
+            public void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor) {}
+        },
+        /**
+         * Drops the oldest queued task to make room for the new task, handled by the executor itself.
+         * Executors call {@link #rejected(Runnable, AtomExecutor)} only once they have been shut down, the new task is then dropped.
+         * Reaching it on a running executor means the executor does not support the policy, the task is rejected with a {@link RejectedExecutionException}
+         * instead of being silently dropped.
+         */
+        DISCARD_OLDEST {
+            @Override
+            public void rejected(@NonNull Runnable task, @NonNull AtomExecutor executor) {
+                if (!executor.isShutdown()) {
+                    throw new RejectedExecutionException("Task " + task + " rejected, " + executor + " does not support discarding the oldest task");
+                }
+            }
+        }
+    }
+}
@@ -16,4 +16,14 @@ public interface AtomGroupedExecutor<T> extends AtomExecutor {
      * @param task the grouped task to execute
      */
     void execute(@NotNull GroupedRunnable<T> task);
+
+    /**
+     * Always executes the task on the executor, running a grouped task inline could run it next to a task of the same group.
+     *
+     * @param task the task to execute
+     */
+    @Override
+    default void executeOrRun(@NotNull Runnable task) {
+        this.execute(task);
+    }
 }
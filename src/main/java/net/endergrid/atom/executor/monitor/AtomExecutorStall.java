@@ -0,0 +1,84 @@
+package net.endergrid.atom.executor.monitor;
+
+import net.endergrid.atom.executor.AtomExecutor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Describes a stalled executor, reported by the background monitor when every worker of the pool
+ * has been busy for longer than the configured threshold while its queue kept growing.
+ * <p>
+ * The most common cause is a task blocking on {@link java.util.concurrent.Future#get()} of a task
+ * that was submitted to the same pool, the stack traces of the workers usually show the waiting frame.
+ */
+public interface AtomExecutorStall {
+    /**
+     * Gets the name of the stalled executor.
+     *
+     * @return the name of the executor
+     */
+    String getExecutorName();
+
+    /**
+     * Gets the stalled executor.
+     *
+     * @return the stalled executor
+     */
+    AtomExecutor getExecutor();
+
+    /**
+     * Gets the number of tasks waiting in the queue when the stall was detected.
+     *
+     * @return the queue size
+     */
+    int getQueueSize();
+
+    /**
+     * Gets the time the stall was detected at, in {@link System#nanoTime()} units.
+     *
+     * @return the detection time in nanoseconds
+     */
+    long getDetectedAtNs();
+
+    /**
+     * Gets a snapshot of every busy worker of the executor.
+     *
+     * @return the busy workers
+     */
+    List<Worker> getWorkers();
+
+    /**
+     * A snapshot of a single busy worker.
+     */
+    interface Worker {
+        /**
+         * Gets the worker thread.
+         *
+         * @return the worker thread
+         */
+        Thread getThread();
+
+        /**
+         * Gets the name of the task the worker is running, as returned by {@link net.endergrid.atom.executor.task.AtomTask#getName()}.
+         *
+         * @return the name of the running task, or {@code null} if the task is not named or not an AtomTask
+         */
+        @Nullable
+        String getTaskName();
+
+        /**
+         * Gets how long the worker has been running its current task.
+         *
+         * @return the busy time in nanoseconds
+         */
+        long getBusyNs();
+
+        /**
+         * Gets the stack trace of the worker captured when the stall was detected.
+         *
+         * @return the stack trace of the worker
+         */
+        StackTraceElement[] getStackTrace();
+    }
+}
@@ -0,0 +1,32 @@
+package net.endergrid.atom.executor.prioritized;
+
+import lombok.NonNull;
+import net.endergrid.atom.executor.AtomExecutor;
+import net.endergrid.atom.executor.task.AtomTask;
+import net.endergrid.atom.executor.task.AtomTaskPriority;
+
+/**
+ * Executes tasks from several lock-free lanes, one per {@link AtomTaskPriority}.
+ * <p>
+ * Tasks passed to {@link #execute(Runnable)} are placed in the lane of {@link AtomTask#getPriority()} if they are an {@link AtomTask},
+ * otherwise in the lane of {@link AtomTaskPriority.Default#NORMAL}.
+ * Lanes are served with weighted fair scheduling, tasks that waited longer than the configured aging threshold are promoted,
+ * so bulk work never starves while latency critical work is served first.
+ */
+public interface AtomPrioritizedExecutor extends AtomExecutor {
+    /**
+     * Executes the specified task in the lane of the given priority.
+     *
+     * @param task     the task to execute
+     * @param priority the priority of the task
+     */
+    void execute(@NonNull Runnable task, @NonNull AtomTaskPriority priority);
+
+    /**
+     * Gets the number of tasks waiting in the lane of the given priority.
+     *
+     * @param priority the priority of the lane
+     * @return the number of pending tasks in the lane
+     */
+    int getPendingTaskCount(@NonNull AtomTaskPriority priority);
+}
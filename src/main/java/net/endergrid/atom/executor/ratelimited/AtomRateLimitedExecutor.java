@@ -0,0 +1,67 @@
+package net.endergrid.atom.executor.ratelimited;
+
+import lombok.NonNull;
+import net.endergrid.atom.executor.AtomExecutor;
+
+/**
+ * Wraps an {@link AtomExecutor} and limits the rate at which tasks are passed to it using a lock-free token bucket.
+ * <p>
+ * Tasks that exceed the limit never block the submitter, they are deferred through the task scheduler
+ * and passed to the delegate once a permit becomes available, preserving submission order.
+ */
+public interface AtomRateLimitedExecutor extends AtomExecutor {
+    /**
+     * Gets the executor the tasks are passed to.
+     *
+     * @return the delegate executor
+     */
+    AtomExecutor getDelegate();
+
+    /**
+     * Gets the number of permits that are refilled every second.
+     *
+     * @return the permits per second
+     */
+    double getPermitsPerSecond();
+
+    /**
+     * Gets the maximum number of permits that can be accumulated while idle.
+     *
+     * @return the burst size
+     */
+    int getBurstSize();
+
+    /**
+     * Gets the number of permits currently available.
+     *
+     * @return the available permits
+     */
+    int getAvailablePermits();
+
+    /**
+     * Gets the number of tasks currently deferred because they exceeded the limit.
+     *
+     * @return the number of deferred tasks
+     */
+    int getDeferredTaskCount();
+
+    /**
+     * Executes the task only if a permit is available right now, without deferring it.
+     * Deferred tasks are served first, so no permit is taken while tasks are deferred, which keeps the submission order.
+     *
+     * @param task the task to execute
+     * @return {@code true} if a permit was acquired and the task was passed to the delegate,
+     * {@code false} if tasks are deferred or no permit is available
+     */
+    boolean tryExecute(@NonNull Runnable task);
+
+    /**
+     * Always executes the task through the rate limit, even on threads of the delegate.
+     *
+     * @param task the task to execute
+     */
+    @Override
+    default void executeOrRun(@NonNull Runnable task) {
+        this.execute(task);
+    }
+}
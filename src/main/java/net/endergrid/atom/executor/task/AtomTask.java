@@ -32,6 +32,15 @@ public interface AtomTask extends Bindable, Runnable {
     @Nullable
     String getName();
 
+    /**
+     * Gets the priority of the task.
+     *
+     * @return the priority of the task, {@link AtomTaskPriority.Default#NORMAL} if none was set
+     */
+    default AtomTaskPriority getPriority() {
+        return AtomTaskPriority.Default.NORMAL;
+    }
+
     /**
      * Checks if the task has been completed.
      *
@@ -52,6 +61,15 @@ public interface AtomTask extends Bindable, Runnable {
      */
     boolean isCancelled();
 
+    /**
+     * Checks if the deadline of the task has passed. Deadlines of all tasks are tracked by one shared timer.
+     * Only immediate tasks can have a deadline, see {@link AtomTaskBuilder.BuildStage#withTimeout(long, java.util.concurrent.TimeUnit)}.
+     * @return {@code true} if the task has a deadline that has passed, {@code false} otherwise.
+     */
+    default boolean isExpired() {
+        return false;
+    }
+
     /**
      * Cancels the task, optionally interrupting it if it is currently running.
      *
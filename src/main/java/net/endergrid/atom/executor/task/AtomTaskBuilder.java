@@ -6,6 +6,9 @@ import io.vavr.CheckedRunnable;
 import lombok.NonNull;
 import net.endergrid.atom.executor.AtomExecutor;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -13,6 +16,7 @@ import java.util.function.Supplier;
 /**
  * Builder interface for creating atomic tasks with various execution patterns.
  * Provides fluent API for both immediate and scheduled task creation.
+ * The {@link net.endergrid.atom.context.AtomContext#current()} is captured when a task is built and attached while it runs.
  */
 public interface AtomTaskBuilder {
 
@@ -67,6 +71,20 @@ public interface AtomTaskBuilder {
          */
         BUILD withName(@NonNull String name);
 
+        /**
+         * Sets the priority of the task, used by executors that serve tasks from priority lanes.
+         * @param priority task priority, defaults to {@link AtomTaskPriority.Default#NORMAL}
+         * @return builder instance for method chaining
+         */
+        BUILD withPriority(@NonNull AtomTaskPriority priority);
+
+        /**
+         * Tracks the task in the given scope, closing the scope cancels the task.
+         * @param scope the scope to track the task in
+         * @return builder instance for method chaining
+         */
+        BUILD withScope(@NonNull AtomTaskScope scope);
+
         /**
          * Builds a task with standard Runnable.
          * @param task the task to execute
@@ -86,6 +104,30 @@ public interface AtomTaskBuilder {
      * Building stage for immediate task execution with result handling.
      */
     interface BuildStage extends BaseBuildStage<AtomTask, BuildStage> {
+        /**
+         * Sets a timeout for the task, relative to the time the task is built.
+         * Tasks that are dequeued after the deadline are dropped without running,
+         * supplying tasks fail with a {@link java.util.concurrent.TimeoutException} once the deadline passes.
+         * @param timeout the maximum time the task may take until it completes
+         * @param unit time unit for the timeout
+         * @return builder instance for method chaining
+         */
+        BuildStage withTimeout(long timeout, @NonNull TimeUnit unit);
+
+        /**
+         * Sets an absolute deadline for the task, see {@link #withTimeout(long, TimeUnit)}.
+         * @param deadline the instant by which the task must complete
+         * @return builder instance for method chaining
+         */
+        BuildStage withDeadline(@NonNull Instant deadline);
+
+        /**
+         * Sets whether a task that is still running when its deadline passes is cancelled via {@link AtomTask#cancel(boolean)} with interruption.
+         * @param interrupt true to interrupt the task on timeout, defaults to false
+         * @return builder instance for method chaining
+         */
+        BuildStage withInterruptOnTimeout(boolean interrupt);
+
         /**
          * Builds a task that returns a result.
          * @param task supplier providing the result
@@ -101,6 +143,15 @@ public interface AtomTaskBuilder {
          * @return future holding the task result
          */
         <T> AtomTaskFuture<T> buildCatchingSupplying(@NonNull CheckedFunction0<T> task);
+
+        /**
+         * Builds a task for every supplier and submits them to the executor in one batch via {@link AtomExecutor#executeAll(Collection)}.
+         * @param executor the executor to submit the tasks to
+         * @param tasks suppliers providing the results
+         * @param <T> type of the results
+         * @return future holding the results in the order of the suppliers, failing with the first failure
+         */
+        <T> AtomTaskFuture<List<T>> submitSupplyingAll(@NonNull AtomExecutor executor, @NonNull Collection<? extends Supplier<T>> tasks);
     }
 
     /**
@@ -114,6 +165,22 @@ public interface AtomTaskBuilder {
          */
         ScheduledBuildStage withDelegateExecutor(@NonNull AtomExecutor executor);
 
+        /**
+         * Sets how missed runs of a fixed-rate task are handled, ignored for delayed tasks.
+         * @param policy the policy for missed runs, defaults to {@link AtomTaskScheduled.MissedRunPolicy#CATCH_UP}, the classic fixed-rate behaviour
+         * @return ScheduledBuildStage for further scheduling configuration
+         */
+        ScheduledBuildStage withMissedRunPolicy(@NonNull AtomTaskScheduled.MissedRunPolicy policy);
+
+        /**
+         * Adds a random offset to the start of the task, spreading tasks with the same interval across the period
+         * instead of firing them all on the same tick. The offset is picked once, so the interval itself stays fixed.
+         * @param maxJitter the maximum offset added to the initial delay
+         * @param unit time unit for the jitter
+         * @return ScheduledBuildStage for further scheduling configuration
+         */
+        ScheduledBuildStage withJitter(long maxJitter, @NonNull TimeUnit unit);
+
         /**
          * Builds a scheduled task with access to its own instance.
          * @param task consumer accepting the task instance
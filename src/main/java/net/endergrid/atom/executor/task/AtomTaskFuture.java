@@ -1,15 +1,96 @@
 package net.endergrid.atom.executor.task;
 
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.NonNull;
+import net.endergrid.atom.executor.AtomExecutorFactory;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
-public interface AtomTaskFuture<T> extends AtomTask, Future<T> {
+/**
+ * Represents a task producing a result. Implementations keep the whole state of the task in a single object,
+ * a {@link CompletableFuture} is only created once {@link #asCompletableFuture()} is called.
+ *
+ * @param <T> the type of the result
+ */
+public interface AtomTaskFuture<T> extends AtomTask, java.util.concurrent.Future<T> {
+    /**
+     * Creates a future that completes once all the given futures completed, see {@link AtomExecutorFactory#allOf(Collection)}.
+     *
+     * @param futures the futures to wait for
+     * @param <T>     the type of the results
+     * @return a future holding the results in the order of the given futures, completed with an empty list if no futures are given
+     */
+    static <T> AtomTaskFuture<List<T>> allOf(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures) {
+        return AtomExecutorFactory.get().allOf(futures);
+    }
+
+    /**
+     * Creates a future that completes with the first result of the given futures, see {@link AtomExecutorFactory#anyOf(Collection)}.
+     *
+     * @param futures the futures to wait for
+     * @param <T>     the type of the results
+     * @return a future holding the first result, failed with a {@link java.util.NoSuchElementException} if no futures are given
+     */
+    static <T> AtomTaskFuture<T> anyOf(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures) {
+        return AtomExecutorFactory.get().anyOf(futures);
+    }
+
+    /**
+     * Creates a future that folds the results of the given futures, see {@link AtomExecutorFactory#reduce(Collection, Object, BiFunction)}.
+     *
+     * @param futures     the futures to wait for
+     * @param identity    the initial value of the reduction
+     * @param accumulator the function folding a result into the reduction
+     * @param <T>         the type of the results
+     * @param <R>         the type of the reduction
+     * @return a future holding the reduction, completed with the identity if no futures are given
+     */
+    static <T, R> AtomTaskFuture<R> reduce(@NonNull Collection<? extends AtomTaskFuture<? extends T>> futures, R identity, @NonNull BiFunction<R, ? super T, R> accumulator) {
+        return AtomExecutorFactory.get().reduce(futures, identity, accumulator);
+    }
 
     /**
      * Returns a {@link CompletableFuture} representation of this {@link AtomTaskFuture}.
      * This allows the task to be used in a CompletableFuture-based asynchronous programming model.
+     * <p>
+     * {@code NOTE}: The {@link CompletableFuture} is created lazily on the first call and cached afterwards,
+     * prefer {@link #whenComplete(BiConsumer)} when only a callback is needed.
      *
      * @return a {@link CompletableFuture} representation of this {@link AtomTaskFuture}
      */
     CompletableFuture<T> asCompletableFuture();
+
+    /**
+     * Registers a callback that is invoked once the task completes, either with its result or with the failure.
+     * If the task is already completed, the callback is invoked immediately on the calling thread.
+     *
+     * @param action the callback receiving the result, or the failure if the task failed or was cancelled
+     * @return this future for method chaining
+     */
+    AtomTaskFuture<T> whenComplete(@NonNull BiConsumer<? super T, ? super Throwable> action);
+
+    /**
+     * Returns a Vert.x {@link Future} representation of this {@link AtomTaskFuture}.
+     * The default implementation completes a {@link Promise} from {@link #whenComplete(BiConsumer)},
+     * so no {@link CompletableFuture} is created.
+     *
+     * @return a Vert.x {@link Future} representation of this {@link AtomTaskFuture}
+     */
+    default Future<T> asVertxFuture() {
+        final Promise<T> promise = Promise.promise();
+        this.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                promise.fail(throwable);
+            } else {
+                promise.complete(result);
+            }
+        });
+
+        return promise.future();
+    }
 }
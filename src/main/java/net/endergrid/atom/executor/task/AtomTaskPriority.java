@@ -0,0 +1,41 @@
+package net.endergrid.atom.executor.task;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the priority of a task for executors that serve tasks from several lanes.
+ * Every priority maps to its own lane, the lanes are served with weighted fair scheduling
+ * so low priority lanes still make progress while high priority lanes are busy.
+ * The {@link Default} enum provides some common priority levels.
+ * <p>
+ * You can create your own priority levels by implementing the {@link AtomTaskPriority} interface.
+ */
+public interface AtomTaskPriority {
+    /**
+     * Gets the order of the lane, lanes with a lower order are polled first.
+     *
+     * @return the order of the lane
+     */
+    int getOrder();
+
+    /**
+     * Gets the weight of the lane, which is the share of dequeues the lane gets relative to the other lanes.
+     *
+     * @return the weight of the lane, must be positive
+     */
+    int getWeight();
+
+    @RequiredArgsConstructor
+    @Getter
+    enum Default implements AtomTaskPriority {
+        CRITICAL(0, 16),
+        HIGH(1, 8),
+        NORMAL(2, 4),
+        LOW(3, 2),
+        BULK(4, 1);
+
+        private final int order;
+        private final int weight;
+    }
+}
@@ -13,4 +13,24 @@ public interface AtomTaskScheduled extends AtomTask {
      * @return true if the interval was successfully updated, false otherwise
      */
     boolean updateInterval(long interval, @NonNull TimeUnit unit);
+
+    /**
+     * Defines how a fixed-rate task behaves when one or more of its runs were missed,
+     * for example because a previous run took longer than the interval.
+     */
+    enum MissedRunPolicy {
+        /**
+         * Missed runs are dropped, the next run happens at the next aligned point of the schedule.
+         */
+        SKIP,
+        /**
+         * Missed runs are coalesced into a single run that happens immediately, the schedule continues from there.
+         */
+        COALESCE,
+        /**
+         * Every missed run is executed back to back until the task is on schedule again,
+         * the behaviour of {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate} and the default.
+         */
+        CATCH_UP
+    }
 }
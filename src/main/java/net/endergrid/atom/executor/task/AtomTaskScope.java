@@ -0,0 +1,88 @@
+package net.endergrid.atom.executor.task;
+
+import dev.oop778.bindings.type.Bindable;
+import lombok.NonNull;
+import net.endergrid.atom.executor.AtomExecutorFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a scope that tracks every task built within it, such as the tasks of a connected player or a loaded world.
+ * Tasks are linked into the scope on build and unlinked once they complete, so closing the scope
+ * cancels all pending tasks and scheduled timers in a single pass without scanning any executor.
+ * <p>
+ * The scope is closed when the {@link Bindable} it was opened with is unbound.
+ */
+public interface AtomTaskScope extends Bindable, AutoCloseable {
+    /**
+     * Opens a new task scope.
+     *
+     * @param name   the name of the scope, used for diagnostics
+     * @param parent an optional bindable the scope is bound to, the scope is closed once the parent is unbound
+     * @return a new open task scope
+     */
+    static AtomTaskScope open(@NonNull String name, @Nullable Bindable parent) {
+        return AtomExecutorFactory.get().createTaskScope(name, parent);
+    }
+
+    /**
+     * Gets the name of the scope.
+     *
+     * @return the name of the scope
+     */
+    String getName();
+
+    /**
+     * Creates a new {@link AtomTaskBuilder.Selector} whose tasks are tracked by this scope.
+     *
+     * @return a new {@link AtomTaskBuilder.Selector} bound to this scope
+     * @throws IllegalStateException if the scope is closed
+     */
+    AtomTaskBuilder.Selector builder();
+
+    /**
+     * Starts tracking a task that was built outside this scope.
+     * If the scope is already closed, the task is cancelled immediately.
+     *
+     * @param task the task to track
+     * @return {@code true} if the task is tracked by this scope, {@code false} if it was cancelled because the scope is closed
+     */
+    boolean track(@NonNull AtomTask task);
+
+    /**
+     * Gets the number of tracked tasks that did not complete yet.
+     *
+     * @return the number of pending tasks
+     */
+    int getPendingTaskCount();
+
+    /**
+     * Cancels all pending tasks of the scope via {@link AtomTask#cancel(boolean)}, without closing the scope.
+     *
+     * @param mayInterruptIfRunning if {@code true}, the threads executing the tasks should be interrupted
+     * @return the number of tasks that were successfully cancelled
+     */
+    int cancelAll(boolean mayInterruptIfRunning);
+
+    /**
+     * Closes the scope and cancels all pending tasks, no new tasks can be built within the scope afterwards.
+     *
+     * @param mayInterruptIfRunning if {@code true}, the threads executing the tasks should be interrupted
+     * @return the number of tasks that were successfully cancelled
+     */
+    int close(boolean mayInterruptIfRunning);
+
+    /**
+     * Checks if the scope is closed.
+     *
+     * @return {@code true} if the scope is closed, {@code false} otherwise
+     */
+    boolean isClosed();
+
+    /**
+     * Closes the scope without interrupting running tasks.
+     */
+    @Override
+    default void close() {
+        this.close(false);
+    }
+}
@@ -0,0 +1,128 @@
+package net.endergrid.atom.executor.ticked;
+
+import net.endergrid.atom.executor.AtomExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor that owns no threads and is instead drained by an external tick loop.
+ * Every call to {@link #tick()} runs queued tasks on the calling thread until the configured tick budget is used up,
+ * the remaining tasks are carried over to the next tick.
+ * <p>
+ * Tasks that were carried over for too many ticks are aged and moved to the front of the queue, so they are served first within the budget
+ * of the next tick and a steady stream of new tasks can never starve older ones. Aged tasks never extend the budget, under sustained overload
+ * the queue grows instead of the tick.
+ * <p>
+ * While {@link #tick()} is running, {@link #isCurrentThreadPartOfExecutor()} returns {@code true} for the tick thread,
+ * allowing callers to run work inline instead of posting it.
+ * Every task runs with the {@link net.endergrid.atom.context.AtomContext} captured on submission, never with the context of the tick thread.
+ */
+public interface AtomTickedExecutor extends AtomExecutor {
+    /**
+     * Drains queued tasks on the calling thread until the tick budget is used up or the queue is empty.
+     * <p>
+     * {@code NOTE}: Must only be called from the tick thread, concurrent calls are rejected with an {@link IllegalStateException}.
+     *
+     * @return a report describing how the tick budget was used
+     */
+    TickReport tick();
+
+    /**
+     * Gets the time budget a single {@link #tick()} is allowed to spend executing tasks.
+     *
+     * @param unit the time unit to return the budget in
+     * @return the tick budget in the given unit
+     */
+    long getTickBudget(TimeUnit unit);
+
+    /**
+     * Gets the number of tasks waiting to be executed on the next tick.
+     *
+     * @return the number of pending tasks
+     */
+    int getPendingTaskCount();
+
+    /**
+     * Gets the report of the last completed tick.
+     *
+     * @return the report of the last tick, or {@link TickReport#EMPTY} if no tick has been completed yet
+     */
+    TickReport getLastTickReport();
+
+    /**
+     * Describes how the budget of a single tick was used.
+     */
+    interface TickReport {
+        TickReport EMPTY = new TickReport() {
+            @Override
+            public long getBudgetNs() {
+                return 0;
+            }
+
+            @Override
+            public long getUsedNs() {
+                return 0;
+            }
+
+            @Override
+            public int getExecutedTaskCount() {
+                return 0;
+            }
+
+            @Override
+            public int getAgedTaskCount() {
+                return 0;
+            }
+
+            @Override
+            public int getCarriedOverTaskCount() {
+                return 0;
+            }
+        };
+
+        /**
+         * @return the budget of the tick in nanoseconds
+         */
+        long getBudgetNs();
+
+        /**
+         * Gets the time spent executing tasks during the tick. This can only exceed the budget
+         * if the last task started within the budget ran past it.
+         *
+         * @return the used time in nanoseconds
+         */
+        long getUsedNs();
+
+        /**
+         * @return the number of tasks executed during the tick, including aged ones
+         */
+        int getExecutedTaskCount();
+
+        /**
+         * @return the number of aged tasks that were served first during the tick
+         */
+        int getAgedTaskCount();
+
+        /**
+         * @return the number of tasks left in the queue for the next tick
+         */
+        int getCarriedOverTaskCount();
+
+        /**
+         * Gets the fraction of the budget used during the tick.
+         *
+         * @return the used fraction of the budget, {@code 1.0} means the budget was exactly used up
+         */
+        default double getBudgetUsage() {
+            final long budget = this.getBudgetNs();
+            return budget == 0 ? 0 : (double) this.getUsedNs() / budget;
+        }
+
+        /**
+         * @return {@code true} if the tick used more time than its budget
+         */
+        default boolean isOverBudget() {
+            return this.getUsedNs() > this.getBudgetNs();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package net.endergrid.atom.profiler;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the phases of bringing up Atom with nanosecond timestamps and exports them as a Chrome trace,
+ * which can be opened in {@code chrome://tracing} or Perfetto as a flame chart.
+ * <p>
+ * Recorded phases are {@code Atom.Instance.setInstance}, every {@code AtomSingletonRegistry.register*} call,
+ * executor construction via {@code AtomExecutorBuilder.buildAndRegister} and event handler registration.
+ * <p>
+ * The profiler is disabled unless the {@code atom.startupProfiler} system property is set to {@code true} or {@link #enable()} is called,
+ * while disabled {@link #begin(String, String)} returns a shared no-op span.
+ * <p>
+ * As registrations keep being recorded after startup, call {@link #disable()} once startup is complete.
+ * At most {@code atom.startupProfiler.maxEvents} spans are recorded, 100000 by default, the profiler disables itself once the limit is reached.
+ */
+public final class AtomStartupProfiler {
+    public static final String CATEGORY_BOOTSTRAP = "bootstrap";
+    public static final String CATEGORY_SINGLETON = "singleton";
+    public static final String CATEGORY_EXECUTOR = "executor";
+    public static final String CATEGORY_EVENT = "event";
+
+    private static final Span NOOP = () -> {};
+    private static final int MAX_EVENTS = Integer.getInteger("atom.startupProfiler.maxEvents", 100_000);
+    private static final Queue<Event> EVENTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger RECORDED = new AtomicInteger();
+    private static final long ORIGIN_NS = System.nanoTime();
+    private static volatile boolean enabled = Boolean.getBoolean("atom.startupProfiler");
+    private static volatile boolean disabledByLimit;
+
+    private AtomStartupProfiler() {}
+
+    /**
+     * Enables recording of spans.
+     */
+    public static void enable() {
+        disabledByLimit = false;
+        enabled = true;
+    }
+
+    /**
+     * Disables recording of spans, already recorded spans are kept until {@link #reset()}.
+     */
+    public static void disable() {
+        disabledByLimit = false;
+        enabled = false;
+    }
+
+    /**
+     * @return {@code true} if spans are recorded, {@code false} otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Discards all recorded spans, making room for new spans up to the limit.
+     * If the profiler disabled itself because the limit was reached, recording is enabled again.
+     */
+    public static void reset() {
+        EVENTS.clear();
+        RECORDED.set(0);
+        if (disabledByLimit) {
+            disabledByLimit = false;
+            enabled = true;
+        }
+    }
+
+    /**
+     * Begins a span on the current thread, the span is recorded once it is closed.
+     *
+     * @param category the category of the span, one of the {@code CATEGORY_*} constants or a custom one
+     * @param name     the name of the span
+     * @return the span to close once the phase is finished
+     */
+    public static Span begin(@NonNull String category, @NonNull String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+
+        return new RecordingSpan(category, name);
+    }
+
+    /**
+     * Writes all recorded spans as Chrome trace JSON.
+     *
+     * @param writer the writer to write the trace to
+     * @throws IOException if writing fails
+     */
+    public static void writeChromeTrace(@NonNull Writer writer) throws IOException {
+        writer.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (final Event event : EVENTS) {
+            if (!first) {
+                writer.write(',');
+            }
+
+            first = false;
+            writer.write("{\"name\":");
+            writeString(writer, event.name);
+            writer.write(",\"cat\":");
+            writeString(writer, event.category);
+            writer.write(",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            writer.write(Long.toString(event.threadId));
+            writer.write(",\"ts\":");
+            writer.write(toMicros(event.startNs));
+            writer.write(",\"dur\":");
+            writer.write(toMicros(event.durationNs));
+            writer.write(",\"args\":{\"thread\":");
+            writeString(writer, event.threadName);
+            writer.write("}}");
+        }
+
+        writer.write("],\"displayTimeUnit\":\"ns\"}");
+        writer.flush();
+    }
+
+    /**
+     * Writes all recorded spans as Chrome trace JSON to the given file, replacing it if it exists.
+     *
+     * @param path the file to write the trace to
+     * @throws IOException if writing fails
+     */
+    public static void writeChromeTrace(@NonNull Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeChromeTrace(writer);
+        }
+    }
+
+    private static String toMicros(long nanos) {
+        final StringBuilder builder = new StringBuilder().append(nanos / 1000).append('.');
+        final long fraction = nanos % 1000;
+        if (fraction < 100) {
+            builder.append('0');
+        }
+
+        if (fraction < 10) {
+            builder.append('0');
+        }
+
+        return builder.append(fraction).toString();
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+
+        writer.write('"');
+    }
+
+    /**
+     * A phase of the startup, closing it records the span.
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class RecordingSpan implements Span {
+        private final String category;
+        private final String name;
+        private final Thread thread = Thread.currentThread();
+        private final long startNs = System.nanoTime();
+
+        private RecordingSpan(String category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            final long durationNs = System.nanoTime() - this.startNs;
+            if (RECORDED.incrementAndGet() > MAX_EVENTS) {
+                disabledByLimit = true;
+                enabled = false;
+                return;
+            }
+
+            EVENTS.add(new Event(this.category, this.name, this.thread.getName(), this.thread.getId(), this.startNs - ORIGIN_NS, durationNs));
+        }
+    }
+
+    private static final class Event {
+        private final String category;
+        private final String name;
+        private final String threadName;
+        private final long threadId;
+        private final long startNs;
+        private final long durationNs;
+
+        private Event(String category, String name, String threadName, long threadId, long startNs, long durationNs) {
+            this.category = category;
+            this.name = name;
+            this.threadName = threadName;
+            this.threadId = threadId;
+            this.startNs = startNs;
+            this.durationNs = durationNs;
+        }
+    }
+}
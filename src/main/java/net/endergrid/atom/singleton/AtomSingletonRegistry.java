@@ -2,18 +2,64 @@ package net.endergrid.atom.singleton;
 
 import dev.oop778.bindings.type.Bindable;
 import lombok.NonNull;
+import net.endergrid.atom.executor.AtomExecutor;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Interface for managing singletons in the Mesh application.
+ * <p>
+ * Implementations must call {@link AtomSingletonSlot#invalidate(Class)} for every class a singleton is registered or unregistered for.
  */
 public interface AtomSingletonRegistry {
+    /**
+     * Collects the class and all of its superclasses and interfaces that pass the filter, nearest types first.
+     * The filter only excludes a type itself, the supertypes of an excluded type are still visited.
+     *
+     * @param clazz  the class to collect the hierarchy of
+     * @param filter a predicate that filters the class hierarchy including self
+     * @return an immutable set of the filtered type closure
+     */
+    static Set<Class<?>> collectHierarchy(@NonNull Class<?> clazz, @NonNull Predicate<Class<?>> filter) {
+        final Set<Class<?>> visited = new LinkedHashSet<>();
+        final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(clazz);
+
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+
+            if (filter.test(current)) {
+                hierarchy.add(current);
+            }
+
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+
+            Collections.addAll(queue, current.getInterfaces());
+        }
+
+        return Collections.unmodifiableSet(hierarchy);
+    }
+
     /**
      * Returns an Optional containing a singleton instance of the specified class if it is available,
      * or an empty Optional if the class does not have a singleton instance.
+     * A lazily registered singleton is created like by {@link #getSingleton(Class)}, an empty Optional is only returned if nothing is registered.
      *
      * @param clazz the class of the singleton instance
      * @param <T>   the type of the singleton instance
@@ -25,11 +71,15 @@ public interface AtomSingletonRegistry {
     /**
      * Returns a singleton instance of the specified class if it is available.
      * If the class does not have a singleton instance, null is returned.
+     * <p>
+     * A lazily registered singleton that was not created yet is created on the calling thread, see {@link #registerLazy(Class, Supplier, Collection, Bindable)}.
      *
      * @param clazz the class of the singleton instance
      * @param <T>   the type of the singleton instance
      * @return the singleton instance of the specified class if available,
      * or null if the class does not have a singleton instance
+     * @throws IllegalStateException if a lazily registered singleton cannot be created because its dependencies contain a cycle
+     *                               or depend on a class that has no registered singleton
      */
     <T> T getSingleton(@NonNull Class<T> clazz);
 
@@ -52,6 +102,9 @@ public interface AtomSingletonRegistry {
 
     /**
      * Registers a singleton object with the registry, optionally with a registration bindable and a hierarchy filter.
+     * <p>
+     * The filtered type closure is computed once via {@link #collectHierarchy(Class, Predicate)} and published as aliases in a single
+     * copy-on-write update, so lookups never walk the hierarchy. Unbinding the registration bindable removes all aliases atomically.
      *
      * @param singleton the singleton object to register
      * @param hierarchyFilter a predicate that filters the class hierarchy including self of the singleton object
@@ -69,4 +122,51 @@ public interface AtomSingletonRegistry {
     default void registerWithHierarchy(@NonNull Object singleton, @Nullable Bindable registrationBindable) {
         this.registerWithHierarchy(singleton, ($) -> true, registrationBindable);
     }
+
+    /**
+     * Registers a lazily created singleton with the registry, optionally with a registration bindable.
+     * The supplier is called on the first {@link #getSingleton(Class)} or {@link #getNullableSingleton(Class)} of the class,
+     * or by {@link #initializeAll(AtomExecutor)}, after all of its dependencies have been created.
+     * <p>
+     * The supplier runs at most once, also when lookups race with each other or with {@link #initializeAll(AtomExecutor)}:
+     * concurrent callers wait for the creation in progress and receive the same instance. If the supplier throws, the exception is passed
+     * to the caller that triggered the creation and the next lookup calls the supplier again.
+     * <p>
+     * The dependency graph is checked before any supplier is called. A lookup of a singleton whose dependencies contain a cycle
+     * or depend on a class that has no registered singleton throws an {@link IllegalStateException} naming the offending classes,
+     * it never recurses or blocks. Suppliers must only look up singletons declared as their dependencies,
+     * looking up the singleton being created from its own supplier throws an {@link IllegalStateException} as well.
+     *
+     * @param clazz the class of the singleton object to register
+     * @param supplier the supplier creating the singleton object
+     * @param dependencies the classes of the singletons the supplier requires
+     * @param registrationBindable an optional bindable to associate with the registration
+     * @param <T> the type of the singleton instance
+     */
+    <T> void registerLazy(@NonNull Class<T> clazz, @NonNull Supplier<? extends T> supplier, @NonNull Collection<Class<?>> dependencies, @Nullable Bindable registrationBindable);
+
+    /**
+     * Registers a lazily created singleton without dependencies with the registry, optionally with a registration bindable.
+     * This method calls {@link #registerLazy(Class, Supplier, Collection, Bindable)} with no dependencies.
+     *
+     * @param clazz the class of the singleton object to register
+     * @param supplier the supplier creating the singleton object
+     * @param registrationBindable an optional bindable to associate with the registration
+     * @param <T> the type of the singleton instance
+     */
+    default <T> void registerLazy(@NonNull Class<T> clazz, @NonNull Supplier<? extends T> supplier, @Nullable Bindable registrationBindable) {
+        this.registerLazy(clazz, supplier, Collections.emptyList(), registrationBindable);
+    }
+
+    /**
+     * Eagerly creates every lazily registered singleton that was not created yet, following the dependency graph.
+     * Singletons that do not depend on each other are created in parallel on the given executor.
+     * <p>
+     * The returned future fails with an {@link IllegalStateException} if the dependencies contain a cycle
+     * or depend on a class that has no registered singleton, and with the thrown exception if a supplier fails.
+     *
+     * @param executor the executor to create the singletons on
+     * @return a future that completes once all singletons have been created
+     */
+    CompletableFuture<Void> initializeAll(@NonNull AtomExecutor executor);
 }
@@ -0,0 +1,93 @@
+package net.endergrid.atom.singleton;
+
+import lombok.NonNull;
+import net.endergrid.atom.Atom;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A cached lookup of a singleton registered in the {@link AtomSingletonRegistry}.
+ * <p>
+ * There is exactly one slot per class. Once resolved, {@link #get()} is a single volatile read without any registry lookup.
+ * The registry invalidates the slots of every class a singleton is (un)registered for, the next {@link #get()} resolves it again.
+ * Every invalidation installs a fresh unresolved marker, and a resolved singleton is only cached if the marker it was resolved under is still installed,
+ * so a lookup racing with an invalidation never caches the replaced singleton.
+ *
+ * @param <T> the type of the singleton
+ */
+public final class AtomSingletonSlot<T> {
+    private static final ClassValue<AtomSingletonSlot<?>> SLOTS = new ClassValue<AtomSingletonSlot<?>>() {
+        @Override
+        protected AtomSingletonSlot<?> computeValue(Class<?> type) {
+            return new AtomSingletonSlot<>(type);
+        }
+    };
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomSingletonSlot, Object> STATE = AtomicReferenceFieldUpdater.newUpdater(AtomSingletonSlot.class, Object.class, "state");
+
+    private final Class<T> type;
+    /**
+     * Either the resolved singleton or the {@link Unresolved} marker of the last invalidation.
+     */
+    private volatile Object state = new Unresolved();
+
+    private AtomSingletonSlot(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the slot of the given class.
+     *
+     * @param type the class of the singleton
+     * @param <T>  the type of the singleton
+     * @return the slot of the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AtomSingletonSlot<T> of(@NonNull Class<T> type) {
+        return (AtomSingletonSlot<T>) SLOTS.get(type);
+    }
+
+    /**
+     * Invalidates the slot of the given class, called by the registry whenever a singleton is (un)registered for the class.
+     *
+     * @param type the class of the singleton
+     */
+    public static void invalidate(@NonNull Class<?> type) {
+        SLOTS.get(type).invalidate();
+    }
+
+    /**
+     * Gets the singleton, resolving it from the {@link AtomSingletonRegistry} if the slot is empty.
+     *
+     * @return the singleton, or {@code null} if no singleton is registered for the class
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        final Object state = this.state;
+        if (!(state instanceof Unresolved)) {
+            return (T) state;
+        }
+
+        final T value = Atom.get().getSingletonManager().getSingleton(this.type);
+        if (value != null) {
+            // Only cache the singleton if the slot was not invalidated while resolving it
+            STATE.compareAndSet(this, state, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Clears the cached singleton, the next {@link #get()} resolves it again.
+     */
+    public void invalidate() {
+        this.state = new Unresolved();
+    }
+
+    /**
+     * The marker of an unresolved slot, a new instance per invalidation.
+     */
+    private static final class Unresolved {
+    }
+}
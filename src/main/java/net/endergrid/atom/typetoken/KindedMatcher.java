@@ -0,0 +1,102 @@
+package net.endergrid.atom.typetoken;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@link TypeTokenMatcher} that knows which kinds of tokens it can possibly match.
+ * <p>
+ * The kind of a token is a bitmask mirroring the {@link TypeToken} sub-interfaces it implements, a resolved type var for example is both
+ * {@link #TYPE_VAR} and {@link #RESOLVED_TYPE_VAR}. As there are only {@link #KIND_COUNT} kind bits, every possible kind value fits into a {@code long},
+ * so a matcher stores the exact set of kind values it accepts. {@code and}/{@code or} compositions intersect or unite these sets,
+ * which stays exact for tokens carrying several kind bits.
+ * <p>
+ * A matcher is guaranteed to never match, and is never tested against, a token whose kind value is not part of its set.
+ *
+ * @param <T> The type of TypeToken to match against
+ */
+final class KindedMatcher<T extends TypeToken<?>> implements TypeTokenMatcher<T> {
+    static final int DECLARED = 1;
+    static final int WILDCARD = 1 << 1;
+    static final int PARAMETERIZED = 1 << 2;
+    static final int TYPE_VAR = 1 << 3;
+    static final int RESOLVED_TYPE_VAR = 1 << 4;
+    static final int OTHER = 1 << 5;
+    static final int GENERIC = WILDCARD | PARAMETERIZED | RESOLVED_TYPE_VAR;
+    static final int KIND_COUNT = 6;
+    static final int KIND_VALUES = 1 << KIND_COUNT;
+    static final long ALL_KINDS = acceptedKinds(DECLARED | TYPE_VAR | GENERIC | OTHER);
+
+    private final long acceptedKinds;
+    private final Predicate<? super T> predicate;
+
+    private KindedMatcher(long acceptedKinds, Predicate<? super T> predicate) {
+        this.acceptedKinds = acceptedKinds;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Creates a matcher accepting every token that carries at least one of the kind bits of the mask.
+     */
+    static <T extends TypeToken<?>> KindedMatcher<T> matching(int mask, Predicate<? super T> predicate) {
+        return new KindedMatcher<>(acceptedKinds(mask), predicate);
+    }
+
+    /**
+     * Creates a matcher accepting exactly the given set of kind values.
+     */
+    static <T extends TypeToken<?>> KindedMatcher<T> accepting(long acceptedKinds, Predicate<? super T> predicate) {
+        return new KindedMatcher<>(acceptedKinds, predicate);
+    }
+
+    /**
+     * @return the set of kind values the matcher may match, every kind value for matchers that are not kinded
+     */
+    static long acceptedKindsOf(TypeTokenMatcher<?> matcher) {
+        return matcher instanceof KindedMatcher ? ((KindedMatcher<?>) matcher).acceptedKinds : ALL_KINDS;
+    }
+
+    static boolean accepts(long acceptedKinds, int kind) {
+        return (acceptedKinds >>> kind & 1) != 0;
+    }
+
+    static int kindOf(TypeToken<?> typeToken) {
+        int kind = 0;
+        if (typeToken instanceof TypeToken.Declared) {
+            kind |= DECLARED;
+        }
+
+        if (typeToken instanceof TypeToken.Wildcard) {
+            kind |= WILDCARD;
+        }
+
+        if (typeToken instanceof TypeToken.Parameterized) {
+            kind |= PARAMETERIZED;
+        }
+
+        if (typeToken instanceof TypeToken.TypeVar) {
+            kind |= TYPE_VAR;
+        }
+
+        if (typeToken instanceof TypeToken.ResolvedTypeVar) {
+            kind |= RESOLVED_TYPE_VAR;
+        }
+
+        return kind == 0 ? OTHER : kind;
+    }
+
+    private static long acceptedKinds(int mask) {
+        long acceptedKinds = 0;
+        for (int kind = 1; kind < KIND_VALUES; kind++) {
+            if ((kind & mask) != 0) {
+                acceptedKinds |= 1L << kind;
+            }
+        }
+
+        return acceptedKinds;
+    }
+
+    @Override
+    public boolean test(T typeToken) {
+        return accepts(this.acceptedKinds, kindOf(typeToken)) && this.predicate.test(typeToken);
+    }
+}
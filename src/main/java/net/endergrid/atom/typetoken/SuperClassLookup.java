@@ -0,0 +1,67 @@
+package net.endergrid.atom.typetoken;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes whether any of the given classes is a superclass of a declared type.
+ * <p>
+ * For {@link TypeToken.Declared} and {@link TypeToken.Parameterized} tokens the result is stored per declared type in a {@link ClassValue},
+ * so each declared type is only resolved once. Other tokens, such as type variables and wildcards whose bounds are not fully described
+ * by their declared type, are always asked directly.
+ * <p>
+ * Lookups are shared per set of classes through {@link #of(Class[])}, so matchers created over and over reuse the same memo
+ * instead of spreading new {@link ClassValue} entries over every class they see.
+ */
+final class SuperClassLookup extends ClassValue<Boolean> {
+    private static final SuperClassLookup NONE = new SuperClassLookup(Collections.emptyList());
+    private static final ClassValue<Map<List<Class<?>>, SuperClassLookup>> SHARED = new ClassValue<Map<List<Class<?>>, SuperClassLookup>>() {
+        @Override
+        protected Map<List<Class<?>>, SuperClassLookup> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<Class<?>> classes;
+
+    private SuperClassLookup(List<Class<?>> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * @return the shared lookup of the given classes
+     */
+    static SuperClassLookup of(Class<?>... classes) {
+        if (classes.length == 0) {
+            return NONE;
+        }
+
+        return SHARED.get(classes[0]).computeIfAbsent(Arrays.asList(classes.clone()), SuperClassLookup::new);
+    }
+
+    boolean test(TypeToken<?> typeToken) {
+        if (typeToken instanceof TypeToken.Declared || typeToken instanceof TypeToken.Parameterized) {
+            return this.get(typeToken.getDeclaredType());
+        }
+
+        return isAnySuperClass(typeToken, this.classes);
+    }
+
+    @Override
+    protected Boolean computeValue(Class<?> declaredType) {
+        return isAnySuperClass(TypeToken.convert(declaredType), this.classes);
+    }
+
+    private static boolean isAnySuperClass(TypeToken<?> typeToken, List<Class<?>> classes) {
+        for (final Class<?> clazz : classes) {
+            if (typeToken.isSuperClassOfDeclaredType(clazz)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package net.endergrid.atom.typetoken;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -8,6 +9,13 @@ import javax.annotation.CheckReturnValue;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 
+/**
+ * Represents a {@link Type} together with its type annotations.
+ * <p>
+ * Tokens are canonical, see {@link TypeTokenFactory}, and immutable, so their hash code and {@link #toString(boolean)} are computed once.
+ *
+ * @param <T> the represented type
+ */
 public interface TypeToken<T> extends Type, AnnotatedElement {
     /**
      * Creates an `ITypeToken` instance representing the return type of a specified method.
@@ -71,7 +79,7 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
      * @return an `ITypeToken` representing the captured type
      */
     static <T> TypeToken<T> capture(@NonNull Capturing<T> capturing) {
-        return convert(capturing.getCapturedType(), capturing.getCapturedAnnotatedElement());
+        return capturing.getCapturedToken();
     }
 
     /**
@@ -84,6 +92,7 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
 
     /**
      * Checks if the given clazz is within the bounds of the current type represented by this `ITypeToken`.
+     * Results are memoized per class on canonical tokens.
      */
     boolean isWithinBounds(Class<?> clazz);
 
@@ -92,6 +101,7 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
      * - For {@link Wildcard}, returns the first bound or `Object.class` if there are no bounds.
      * - For {@link TypeVar}, returns the first bound (e.g., for `<T extends Serializable & Comparable<T>>`, it returns `Serializable.class`).
      * - For {@link Parameterized}, returns the raw owner class (e.g., for `Map<String, Object>`, it returns `Map.class`).
+     * - For {@link GenericArray}, returns the array class of the declared type of the component (e.g., for `List<String>[]`, it returns `List[].class`).
      *
      * @return the resolved class of the current type
      */
@@ -107,6 +117,16 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
     @CheckReturnValue
     <U> TypeToken<U> withType(Class<U> type);
 
+    /**
+     * Creates a new `ITypeToken` instance of the same type with the given annotations added,
+     * annotations of a type this token is already annotated with replace the existing ones.
+     *
+     * @param annotations the annotations to add
+     * @return a new `ITypeToken` instance carrying the annotations, or this token if no annotations are given
+     */
+    @CheckReturnValue
+    TypeToken<T> withAnnotations(Annotation... annotations);
+
     String toString(boolean includeAnnotations);
 
     /**
@@ -187,6 +207,15 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
          */
         Kind getKind();
 
+        /**
+         * Creates a new wildcard with the same kind and annotations, but with the given bounds.
+         *
+         * @param resolvedUpperBounds the new upper bounds
+         * @param resolvedLowerBounds the new lower bounds
+         * @return a new wildcard with the given bounds
+         */
+        Wildcard<T> withBounds(TypeToken<?>[] resolvedUpperBounds, TypeToken<?>[] resolvedLowerBounds);
+
         enum Kind {
             SUPER, EXTENDS, RAW
         }
@@ -206,25 +235,79 @@ public interface TypeToken<T> extends Type, AnnotatedElement {
         Parameterized<T> withParams(TypeToken<?>[] resolvedTypeArguments);
     }
 
+    /**
+     * Represents an array whose component type is generic, such as `T[]` or `List<String>[]`.
+     */
+    interface GenericArray<T> extends TypeToken<T> {
+        /**
+         * Returns the component type of this array type.
+         *
+         * @return the `ITypeToken` of the component type
+         */
+        TypeToken<?> getComponentType();
+
+        /**
+         * Creates a new array type with the same annotations, but with the given component type.
+         *
+         * @param resolvedComponentType the new component type
+         * @return a new array type with the given component type
+         */
+        TypeToken<T> withComponentType(TypeToken<?> resolvedComponentType);
+    }
+
     /**
      * An abstract class that captures the type parameter of a subclass. This is useful for preserving type information in generic classes.
      * <p>
      * The constructor of this class captures the type parameter of the subclass and stores it in the `capturedType` and `capturedAnnotatedElement` fields.
+     * The captured type and the resulting `TypeToken` are cached per subclass, so repeated instantiation does not repeat any reflection
+     * and {@link TypeToken#capture(Capturing)} is a field read after the first call.
      */
     @Getter
     abstract class Capturing<T> {
+        private static final ClassValue<Captured> CAPTURED = new ClassValue<Captured>() {
+            @Override
+            protected Captured computeValue(Class<?> type) {
+                return new Captured(type);
+            }
+        };
+
         private final Type capturedType;
         private final AnnotatedElement capturedAnnotatedElement;
+        @Getter(AccessLevel.NONE)
+        private final Captured captured;
 
         protected Capturing() {
-            final Type superclass = this.getClass().getGenericSuperclass();
-            final AnnotatedType annotatedSuperclass = this.getClass().getAnnotatedSuperclass();
-
-            if (superclass instanceof ParameterizedType) {
-                this.capturedType = ((ParameterizedType) superclass).getActualTypeArguments()[0];
-                this.capturedAnnotatedElement = ((AnnotatedParameterizedType) annotatedSuperclass).getAnnotatedActualTypeArguments()[0];
-            } else {
-                throw new RuntimeException("Unable to capture type.");
+            this.captured = CAPTURED.get(this.getClass());
+            this.capturedType = this.captured.type;
+            this.capturedAnnotatedElement = this.captured.annotatedElement;
+        }
+
+        @SuppressWarnings("unchecked")
+        TypeToken<T> getCapturedToken() {
+            TypeToken<?> token = this.captured.token;
+            if (token == null) {
+                token = convert(this.capturedType, this.capturedAnnotatedElement);
+                this.captured.token = token;
+            }
+
+            return (TypeToken<T>) token;
+        }
+
+        private static final class Captured {
+            private final Type type;
+            private final AnnotatedElement annotatedElement;
+            private volatile TypeToken<?> token;
+
+            private Captured(Class<?> capturingClass) {
+                final Type superclass = capturingClass.getGenericSuperclass();
+                final AnnotatedType annotatedSuperclass = capturingClass.getAnnotatedSuperclass();
+
+                if (superclass instanceof ParameterizedType) {
+                    this.type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+                    this.annotatedElement = ((AnnotatedParameterizedType) annotatedSuperclass).getAnnotatedActualTypeArguments()[0];
+                } else {
+                    throw new RuntimeException("Unable to capture type.");
+                }
             }
         }
     }
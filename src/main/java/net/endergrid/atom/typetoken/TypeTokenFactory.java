@@ -1,7 +1,7 @@
 package net.endergrid.atom.typetoken;
 
 import lombok.NonNull;
-import net.endergrid.atom.Atom;
+import net.endergrid.atom.singleton.AtomSingletonSlot;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
@@ -11,14 +11,30 @@ import java.lang.reflect.Type;
 /**
  * Provides a factory for creating {@link TypeToken} instances.
  * The {@link TypeTokenFactory} is a singleton that can be accessed using the {@link #get()} method.
+ * <p>
+ * Created tokens are canonical, equal types with equal annotations always map to the same {@link TypeToken} instance,
+ * so tokens can be compared by reference. The interner holds its keys weakly and never prevents class loaders from unloading.
  */
 public interface TypeTokenFactory {
 
     static TypeTokenFactory get() {
-        return Atom.get().getSingletonManager().getSingleton(TypeTokenFactory.class);
+        return Holder.SLOT.get();
     }
 
     <T> TypeToken<T> create(@NonNull Type type, @Nullable AnnotatedElement annotatedElement);
 
     <T> TypeToken<T> create(@NonNull Type type, Annotation[] annotations);
+
+    /**
+     * Returns the canonical instance of the given token, registering it as canonical if no equal token is known yet.
+     *
+     * @param token the token to intern
+     * @param <T>   the type parameter of the token
+     * @return the canonical instance equal to the given token
+     */
+    <T> TypeToken<T> intern(@NonNull TypeToken<T> token);
+
+    final class Holder {
+        private static final AtomSingletonSlot<TypeTokenFactory> SLOT = AtomSingletonSlot.of(TypeTokenFactory.class);
+    }
 }
@@ -0,0 +1,236 @@
+package net.endergrid.atom.typetoken;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A concurrent map keyed by {@link TypeToken}, whose {@link #get(TypeToken)} returns the value of the most specific key assignable from the query.
+ * <p>
+ * A key accepts a query token if:
+ * <ul>
+ *     <li>the declared type of the key is a superclass of the declared type of the query,</li>
+ *     <li>for {@link TypeToken.Parameterized} keys, every type argument accepts the argument the query passes to the key's declared type,
+ *     resolved through {@link TypeTokenResolver#resolveSupertype(TypeToken, Class)}, so {@code List<String>} accepts {@code ArrayList<String>}:
+ *     {@link TypeToken.Wildcard} arguments by their {@link TypeToken.Wildcard#getUpperBounds() upper} and {@link TypeToken.Wildcard#getLowerBounds() lower} bounds,
+ *     other arguments by equality. Raw queries are only accepted if all arguments are unbounded,</li>
+ *     <li>for {@link TypeToken.Wildcard} keys, the query is within its bounds,</li>
+ *     <li>for {@link TypeToken.TypeVar} keys, the declared type of the query is {@link TypeToken#isWithinBounds(Class) within its bounds}.</li>
+ * </ul>
+ * Resolved lookups are cached per canonical query token, the cache is invalidated on every mutation, holds its keys weakly and is read without locking.
+ *
+ * @param <V> the type of the values
+ */
+public final class TypeTokenMap<V> {
+    private static final Object NO_MATCH = new Object();
+
+    private volatile Snapshot<V> snapshot = new Snapshot<>(Collections.emptyMap());
+
+    /**
+     * Associates the value with the exact key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value of the exact key, or {@code null} if there was none
+     */
+    @Nullable
+    public synchronized V put(@NonNull TypeToken<?> key, @NonNull V value) {
+        final Map<TypeToken<?>, V> entries = new LinkedHashMap<>(this.snapshot.entries);
+        final V previous = entries.put(key, value);
+        this.snapshot = new Snapshot<>(entries);
+        return previous;
+    }
+
+    /**
+     * Removes the value of the exact key.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if there was none
+     */
+    @Nullable
+    public synchronized V remove(@NonNull TypeToken<?> key) {
+        if (!this.snapshot.entries.containsKey(key)) {
+            return null;
+        }
+
+        final Map<TypeToken<?>, V> entries = new LinkedHashMap<>(this.snapshot.entries);
+        final V previous = entries.remove(key);
+        this.snapshot = new Snapshot<>(entries);
+        return previous;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        this.snapshot = new Snapshot<>(Collections.emptyMap());
+    }
+
+    /**
+     * Gets the value of the exact key, without any assignability lookup.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the exact key is not present
+     */
+    @Nullable
+    public V getExact(@NonNull TypeToken<?> key) {
+        return this.snapshot.entries.get(key);
+    }
+
+    /**
+     * Gets the value of the most specific key that accepts the query token.
+     *
+     * @param query the token to look up
+     * @return the value of the most specific accepting key, or {@code null} if no key accepts the query
+     */
+    @Nullable
+    public V get(@NonNull TypeToken<?> query) {
+        return this.snapshot.resolve(query);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return this.snapshot.entries.size();
+    }
+
+    /**
+     * @return an unmodifiable view of the entries at the time of the call
+     */
+    public Map<TypeToken<?>, V> asMap() {
+        return this.snapshot.entries;
+    }
+
+    static boolean accepts(TypeToken<?> key, TypeToken<?> query) {
+        if (key.equals(query)) {
+            return true;
+        }
+
+        if (key instanceof TypeToken.Wildcard) {
+            return withinBounds((TypeToken.Wildcard<?>) key, query);
+        }
+
+        if (key instanceof TypeToken.TypeVar) {
+            return key.isWithinBounds(query.getDeclaredType());
+        }
+
+        if (!query.isSuperClassOfDeclaredType(key.getDeclaredType())) {
+            return false;
+        }
+
+        if (!(key instanceof TypeToken.Parameterized)) {
+            return true;
+        }
+
+        final TypeToken<?>[] keyArguments = ((TypeToken.Parameterized<?>) key).getTypeArguments();
+        final TypeToken<?> supertype = TypeTokenResolver.shared().resolveSupertype(query, key.getDeclaredType());
+        if (!(supertype instanceof TypeToken.Parameterized)) {
+            return allUnbounded(keyArguments);
+        }
+
+        final TypeToken<?>[] queryArguments = ((TypeToken.Parameterized<?>) supertype).getTypeArguments();
+        if (keyArguments.length != queryArguments.length) {
+            return false;
+        }
+
+        for (int i = 0; i < keyArguments.length; i++) {
+            final TypeToken<?> keyArgument = keyArguments[i];
+            if (keyArgument instanceof TypeToken.Wildcard) {
+                if (!withinBounds((TypeToken.Wildcard<?>) keyArgument, queryArguments[i])) {
+                    return false;
+                }
+            } else if (!keyArgument.equals(queryArguments[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean withinBounds(TypeToken.Wildcard<?> wildcard, TypeToken<?> query) {
+        for (final TypeToken<?> upperBound : wildcard.getUpperBounds()) {
+            if (!accepts(upperBound, query)) {
+                return false;
+            }
+        }
+
+        for (final TypeToken<?> lowerBound : wildcard.getLowerBounds()) {
+            if (!accepts(query, lowerBound)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean allUnbounded(TypeToken<?>[] arguments) {
+        for (final TypeToken<?> argument : arguments) {
+            if (!(argument instanceof TypeToken.Wildcard)) {
+                return false;
+            }
+
+            final TypeToken.Wildcard<?> wildcard = (TypeToken.Wildcard<?>) argument;
+            if (wildcard.getLowerBounds().length != 0) {
+                return false;
+            }
+
+            for (final TypeToken<?> upperBound : wildcard.getUpperBounds()) {
+                if (upperBound.getDeclaredType() != Object.class) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * An immutable snapshot of the entries, together with the lookup cache of that snapshot.
+     */
+    private static final class Snapshot<V> {
+        private final Map<TypeToken<?>, V> entries;
+        private final WeakTokenCache<Object> cache = new WeakTokenCache<>();
+
+        private Snapshot(Map<TypeToken<?>, V> entries) {
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+
+        @SuppressWarnings("unchecked")
+        private V resolve(TypeToken<?> query) {
+            final V exact = this.entries.get(query);
+            if (exact != null) {
+                return exact;
+            }
+
+            Object result = this.cache.get(query);
+            if (result == null) {
+                result = this.compute(query);
+                this.cache.put(query, result);
+            }
+
+            return result == NO_MATCH ? null : (V) result;
+        }
+
+        private Object compute(TypeToken<?> query) {
+            TypeToken<?> bestKey = null;
+            V bestValue = null;
+            for (final Map.Entry<TypeToken<?>, V> entry : this.entries.entrySet()) {
+                final TypeToken<?> key = entry.getKey();
+                if (!accepts(key, query)) {
+                    continue;
+                }
+
+                if (bestKey == null || accepts(bestKey, key)) {
+                    bestKey = key;
+                    bestValue = entry.getValue();
+                }
+            }
+
+            return bestKey == null ? NO_MATCH : bestValue;
+        }
+    }
+}
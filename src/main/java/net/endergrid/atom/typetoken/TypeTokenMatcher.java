@@ -15,7 +15,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher that matches Declared TypeTokens
      */
     static TypeTokenMatcher<TypeToken.Declared<?>> isDeclared() {
-        return TypeToken.Declared.class::isInstance;
+        return KindedMatcher.matching(KindedMatcher.DECLARED, TypeToken.Declared.class::isInstance);
     }
 
     /**
@@ -24,7 +24,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher that matches Wildcard TypeTokens
      */
     static TypeTokenMatcher<TypeToken.Wildcard<?>> isWildcard() {
-        return TypeToken.Wildcard.class::isInstance;
+        return KindedMatcher.matching(KindedMatcher.WILDCARD, TypeToken.Wildcard.class::isInstance);
     }
 
     /**
@@ -33,7 +33,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher that matches Parameterized TypeTokens
      */
     static TypeTokenMatcher<TypeToken.Parameterized<?>> isParameterized() {
-        return TypeToken.Parameterized.class::isInstance;
+        return KindedMatcher.matching(KindedMatcher.PARAMETERIZED, TypeToken.Parameterized.class::isInstance);
     }
 
     /**
@@ -42,7 +42,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher that matches TypeVar TypeTokens
      */
     static TypeTokenMatcher<TypeToken.TypeVar<?>> isTypeVar() {
-        return TypeToken.TypeVar.class::isInstance;
+        return KindedMatcher.matching(KindedMatcher.TYPE_VAR, TypeToken.TypeVar.class::isInstance);
     }
 
     /**
@@ -51,7 +51,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher that matches Generic TypeTokens
      */
     static TypeTokenMatcher<TypeToken.Generic<?>> isGeneric() {
-        return TypeToken.Generic.class::isInstance;
+        return KindedMatcher.matching(KindedMatcher.GENERIC, TypeToken.Generic.class::isInstance);
     }
 
     /**
@@ -65,24 +65,29 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
 
     /**
      * Creates a matcher that checks if a TypeToken is a superclass of the specified class.
+     * Results of declared and parameterized tokens are memoized per declared type, matchers of the same class share the memo.
      *
      * @param clazz The class to check against
      * @param <T>   The type of TypeToken
      * @return A matcher for superclass relationship
      */
     static <T> TypeTokenMatcher<TypeToken<? super T>> isSuperClass(Class<? super T> clazz) {
-        return typeToken -> typeToken.isSuperClassOfDeclaredType(clazz);
+        final SuperClassLookup lookup = SuperClassLookup.of(clazz);
+        return lookup::test;
     }
 
+    /**
+     * Creates a matcher that checks if a TypeToken is a superclass of any of the specified classes.
+     * For declared and parameterized tokens the classes are compiled into a per declared type lookup, so the cost does not grow with the number of classes.
+     * Matchers of the same classes share the lookup.
+     *
+     * @param classes The classes to check against
+     * @param <T>     The type of TypeToken
+     * @return A matcher for superclass relationship
+     */
     static <T> TypeTokenMatcher<TypeToken<? super T>> isAnySuperClass(Class<?>... classes) {
-        return typeToken -> {
-            for (final Class<?> clazz : classes) {
-                if (typeToken.isSuperClassOfDeclaredType(clazz)) {
-                    return true;
-                }
-            }
-            return false;
-        };
+        final SuperClassLookup lookup = SuperClassLookup.of(classes);
+        return lookup::test;
     }
 
     /**
@@ -94,14 +99,14 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher for generic parameters
      */
     static <U extends TypeToken<?>> TypeTokenMatcher<TypeToken.Generic<?>> genericChildAt(int index, TypeTokenMatcher<U> matcher) {
-        return typeToken -> {
+        return KindedMatcher.matching(KindedMatcher.GENERIC, typeToken -> {
             if (!(typeToken instanceof TypeToken.Generic<?>)) {
                 return false;
             }
 
             final TypeToken<?>[] bounds = typeToken.getGenerics();
             return bounds.length > index && matcher.test((U) bounds[index]);
-        };
+        });
     }
 
     /**
@@ -111,7 +116,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher combining type check and custom predicate
      */
     static TypeTokenMatcher<TypeToken.Declared<?>> declaredMatching(Predicate<TypeToken.Declared<?>> predicate) {
-        return typeToken -> typeToken instanceof TypeToken.Declared<?> && predicate.test(typeToken);
+        return KindedMatcher.matching(KindedMatcher.DECLARED, typeToken -> typeToken instanceof TypeToken.Declared<?> && predicate.test(typeToken));
     }
 
     /**
@@ -121,7 +126,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A matcher combining type check and custom predicate
      */
     static TypeTokenMatcher<TypeToken.Generic<?>> genericMatching(Predicate<TypeToken.Generic<?>> predicate) {
-        return typeToken -> typeToken instanceof TypeToken.Generic<?> && predicate.test(typeToken);
+        return KindedMatcher.matching(KindedMatcher.GENERIC, typeToken -> typeToken instanceof TypeToken.Generic<?> && predicate.test(typeToken));
     }
 
     @Override
@@ -144,7 +149,7 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A combined matcher
      */
     default <U extends T> TypeTokenMatcher<U> and(TypeTokenMatcher<? super U> other) {
-        return typeToken -> this.test(typeToken) && other.test(typeToken);
+        return KindedMatcher.accepting(KindedMatcher.acceptedKindsOf(this) & KindedMatcher.acceptedKindsOf(other), typeToken -> this.test(typeToken) && other.test(typeToken));
     }
 
     /**
@@ -155,6 +160,6 @@ public interface TypeTokenMatcher<T extends TypeToken<?>> extends Predicate<T> {
      * @return A combined matcher
      */
     default <U extends T> TypeTokenMatcher<U> or(TypeTokenMatcher<? super U> other) {
-        return typeToken -> this.test(typeToken) || other.test(typeToken);
+        return KindedMatcher.<U>accepting(KindedMatcher.acceptedKindsOf(this) | KindedMatcher.acceptedKindsOf(other), typeToken -> this.test(typeToken) || other.test(typeToken));
     }
 }
\ No newline at end of file
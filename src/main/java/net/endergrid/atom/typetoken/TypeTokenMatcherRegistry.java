@@ -0,0 +1,127 @@
+package net.endergrid.atom.typetoken;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An ordered registry of {@link TypeTokenMatcher} and handler pairs, resolving a {@link TypeToken} to the handler of the first matching matcher,
+ * for example to look up codecs or argument parsers.
+ * <p>
+ * Matchers created through the {@link TypeTokenMatcher} factories, including their {@code and}/{@code or} compositions,
+ * know which kinds of tokens they can match. The registry indexes the matchers by token kind, so only matchers that can possibly match are tested.
+ * Resolved handlers are cached per canonical token, the cache is invalidated on every modification, holds its keys weakly and is read without locking.
+ * <p>
+ * {@code NOTE}: Custom matchers that are not built from the factories are tested against every kind of token and must accept any {@link TypeToken}.
+ *
+ * @param <H> the type of the handlers
+ */
+public final class TypeTokenMatcherRegistry<H> {
+    private static final Object NO_MATCH = new Object();
+
+    private final List<Entry<H>> entries = new ArrayList<>();
+    private volatile Index<H> index = new Index<>(Collections.emptyList());
+
+    /**
+     * Registers a handler after all previously registered handlers.
+     *
+     * @param matcher the matcher selecting the tokens the handler applies to
+     * @param handler the handler
+     */
+    public synchronized void register(@NonNull TypeTokenMatcher<?> matcher, @NonNull H handler) {
+        this.entries.add(new Entry<>(matcher, handler));
+        this.index = new Index<>(this.entries);
+    }
+
+    /**
+     * Removes every registration of the handler.
+     *
+     * @param handler the handler to remove
+     * @return {@code true} if the handler was registered, {@code false} otherwise
+     */
+    public synchronized boolean remove(@NonNull H handler) {
+        if (!this.entries.removeIf(entry -> entry.handler.equals(handler))) {
+            return false;
+        }
+
+        this.index = new Index<>(this.entries);
+        return true;
+    }
+
+    /**
+     * Removes all registrations.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.index = new Index<>(this.entries);
+    }
+
+    /**
+     * Resolves the handler of the first registered matcher that matches the token.
+     *
+     * @param typeToken the token to resolve
+     * @return the handler of the first matching matcher, or {@code null} if no matcher matches
+     */
+    @Nullable
+    public H resolve(@NonNull TypeToken<?> typeToken) {
+        return this.index.resolve(typeToken);
+    }
+
+    private static final class Entry<H> {
+        private final TypeTokenMatcher<TypeToken<?>> matcher;
+        private final H handler;
+        private final long acceptedKinds;
+
+        @SuppressWarnings("unchecked")
+        private Entry(TypeTokenMatcher<?> matcher, H handler) {
+            this.matcher = (TypeTokenMatcher<TypeToken<?>>) matcher;
+            this.handler = handler;
+            this.acceptedKinds = KindedMatcher.acceptedKindsOf(matcher);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the registrations bucketed by token kind value, together with the resolution cache of that snapshot.
+     */
+    private static final class Index<H> {
+        private final List<List<Entry<H>>> byKind = new ArrayList<>(KindedMatcher.KIND_VALUES);
+        private final WeakTokenCache<Object> cache = new WeakTokenCache<>();
+
+        private Index(List<Entry<H>> entries) {
+            for (int kind = 0; kind < KindedMatcher.KIND_VALUES; kind++) {
+                final List<Entry<H>> bucket = new ArrayList<>();
+                for (final Entry<H> entry : entries) {
+                    if (KindedMatcher.accepts(entry.acceptedKinds, kind)) {
+                        bucket.add(entry);
+                    }
+                }
+
+                this.byKind.add(bucket);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private H resolve(TypeToken<?> typeToken) {
+            Object result = this.cache.get(typeToken);
+            if (result == null) {
+                result = this.compute(typeToken);
+                this.cache.put(typeToken, result);
+            }
+
+            return result == NO_MATCH ? null : (H) result;
+        }
+
+        private Object compute(TypeToken<?> typeToken) {
+            for (final Entry<H> entry : this.byKind.get(KindedMatcher.kindOf(typeToken))) {
+                if (entry.matcher.test(typeToken)) {
+                    return entry.handler;
+                }
+            }
+
+            return NO_MATCH;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package net.endergrid.atom.typetoken;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the type variables of member types against a concrete context type,
+ * for example the field type {@code List<T>} of {@code Repo<T, ID>} resolves to {@code List<User>} in the context of {@code MyRepo extends Repo<User, UUID>}.
+ * <p>
+ * Every {@link TypeToken.TypeVar} declared by a class is substituted with the type argument the context passes to that class,
+ * following the generic superclasses and interfaces of the context. Annotations on the use of a variable are kept, {@code @Nullable T} resolves to {@code @Nullable User}.
+ * {@link TypeToken.Parameterized}, {@link TypeToken.Wildcard} and {@link TypeToken.GenericArray} tokens are rebuilt
+ * via {@link TypeToken.Parameterized#withParams(TypeToken[])}, {@link TypeToken.Wildcard#withBounds(TypeToken[], TypeToken[])}
+ * and {@link TypeToken.GenericArray#withComponentType(TypeToken)}. Every rebuilt token is interned through {@link TypeTokenFactory#intern(TypeToken)},
+ * so resolved tokens are canonical.
+ * Type variables that cannot be resolved, such as method type variables, variables of a raw context and {@link TypeToken.UnresolvedTypeVar}s, are kept as is.
+ * <p>
+ * Field and method results are memoized per context and member. The memo is stored on the declaring class of the member through a {@link ClassValue}
+ * and holds the contexts weakly, so the resolver itself never references it. Once a context token is collected, its results are expunged
+ * on the next resolution of any member through the same resolver, until then they keep the classes they reference reachable.
+ * A result referencing its own context, such as a self-referencing field, lives until the declaring class is unloaded.
+ */
+public final class TypeTokenResolver {
+    private static final TypeTokenResolver SHARED = new TypeTokenResolver();
+    private static final int MAX_DEPTH = 64;
+
+    private final MemberCache cache = new MemberCache(new ReferenceQueue<>());
+
+    /**
+     * @return the resolver shared by the whole application
+     */
+    public static TypeTokenResolver shared() {
+        return SHARED;
+    }
+
+    /**
+     * Resolves the type of the field in the given context.
+     *
+     * @param context the concrete type the field is accessed through
+     * @param field   the field
+     * @param <T>     the type parameter of the resolved token
+     * @return the resolved type of the field
+     */
+    public <T> TypeToken<T> resolveField(@NonNull TypeToken<?> context, @NonNull Field field) {
+        return this.resolveMember(context, field, () -> TypeToken.ofFieldType(field));
+    }
+
+    /**
+     * Resolves the return type of the method in the given context.
+     *
+     * @param context the concrete type the method is invoked on
+     * @param method  the method
+     * @param <T>     the type parameter of the resolved token
+     * @return the resolved return type of the method
+     */
+    public <T> TypeToken<T> resolveReturnType(@NonNull TypeToken<?> context, @NonNull Method method) {
+        return this.resolveMember(context, method, () -> TypeToken.ofMethodReturnType(method));
+    }
+
+    /**
+     * Resolves the type in the given context, the result is not memoized.
+     *
+     * @param context the concrete type the type is declared in
+     * @param type    the type to resolve
+     * @param <T>     the type parameter of the resolved token
+     * @return the resolved type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TypeToken<T> resolve(@NonNull TypeToken<?> context, @NonNull TypeToken<T> type) {
+        return (TypeToken<T>) substitute(context, type, 0);
+    }
+
+    /**
+     * Resolves the given supertype as seen from the context,
+     * for example {@code List} resolves to {@code List<String>} in the context of {@code ArrayList<String>}.
+     *
+     * @param context   the concrete type
+     * @param supertype the superclass or interface of the context's declared type
+     * @return the resolved supertype, the raw supertype if it is not parameterized in the hierarchy of the context,
+     * or {@code null} if it is not a supertype of the context
+     */
+    @Nullable
+    public TypeToken<?> resolveSupertype(@NonNull TypeToken<?> context, @NonNull Class<?> supertype) {
+        final Class<?> declaredType = context.getDeclaredType();
+        if (declaredType == supertype) {
+            return context;
+        }
+
+        if (!supertype.isAssignableFrom(declaredType)) {
+            return null;
+        }
+
+        final ParameterizedType parameterized = findSupertype(declaredType, supertype);
+        return parameterized == null ? TypeToken.convert(supertype) : substitute(context, TypeToken.convert(parameterized), 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeToken<T> resolveMember(TypeToken<?> context, Member member, MemberType memberType) {
+        final WeakTokenCache<Map<Member, TypeToken<?>>> contexts = this.cache.get(member.getDeclaringClass());
+        Map<Member, TypeToken<?>> resolved = contexts.get(context);
+        if (resolved == null) {
+            resolved = contexts.putIfAbsent(context, new ConcurrentHashMap<>());
+        }
+
+        TypeToken<?> token = resolved.get(member);
+        if (token == null) {
+            token = substitute(context, memberType.get(), 0);
+            resolved.put(member, token);
+        }
+
+        return (TypeToken<T>) token;
+    }
+
+    private static TypeToken<?> substitute(TypeToken<?> context, TypeToken<?> token, int depth) {
+        if (depth > MAX_DEPTH || token instanceof TypeToken.UnresolvedTypeVar) {
+            return token;
+        }
+
+        if (token instanceof TypeToken.TypeVar) {
+            final TypeToken<?> resolved = resolveVariable(context, (TypeToken.TypeVar<?>) token, depth);
+            final Annotation[] annotations = token.getDeclaredAnnotations();
+            return resolved == token || annotations.length == 0 ? resolved : TypeTokenFactory.get().intern(resolved.withAnnotations(annotations));
+        }
+
+        if (token instanceof TypeToken.Parameterized) {
+            final TypeToken.Parameterized<?> parameterized = (TypeToken.Parameterized<?>) token;
+            final TypeToken<?>[] arguments = parameterized.getTypeArguments();
+            final TypeToken<?>[] resolvedArguments = substituteAll(context, arguments, depth);
+            return resolvedArguments == arguments ? token : TypeTokenFactory.get().intern(parameterized.withParams(resolvedArguments));
+        }
+
+        if (token instanceof TypeToken.Wildcard) {
+            final TypeToken.Wildcard<?> wildcard = (TypeToken.Wildcard<?>) token;
+            final TypeToken<?>[] upperBounds = wildcard.getUpperBounds();
+            final TypeToken<?>[] lowerBounds = wildcard.getLowerBounds();
+            final TypeToken<?>[] resolvedUpperBounds = substituteAll(context, upperBounds, depth);
+            final TypeToken<?>[] resolvedLowerBounds = substituteAll(context, lowerBounds, depth);
+            return resolvedUpperBounds == upperBounds && resolvedLowerBounds == lowerBounds ? token : TypeTokenFactory.get().intern(wildcard.withBounds(resolvedUpperBounds, resolvedLowerBounds));
+        }
+
+        if (token instanceof TypeToken.GenericArray) {
+            final TypeToken.GenericArray<?> array = (TypeToken.GenericArray<?>) token;
+            final TypeToken<?> componentType = array.getComponentType();
+            final TypeToken<?> resolvedComponentType = substitute(context, componentType, depth + 1);
+            return resolvedComponentType == componentType ? token : TypeTokenFactory.get().intern(array.withComponentType(resolvedComponentType));
+        }
+
+        return token;
+    }
+
+    /**
+     * @return the resolved tokens, or the given array itself if none of the tokens changed
+     */
+    private static TypeToken<?>[] substituteAll(TypeToken<?> context, TypeToken<?>[] tokens, int depth) {
+        TypeToken<?>[] resolved = tokens;
+        for (int i = 0; i < tokens.length; i++) {
+            final TypeToken<?> token = substitute(context, tokens[i], depth + 1);
+            if (token != tokens[i]) {
+                if (resolved == tokens) {
+                    resolved = tokens.clone();
+                }
+
+                resolved[i] = token;
+            }
+        }
+
+        return resolved;
+    }
+
+    private static TypeToken<?> resolveVariable(TypeToken<?> context, TypeToken.TypeVar<?> variable, int depth) {
+        final GenericDeclaration declaration = variable.getGenericDeclaration();
+        if (!(declaration instanceof Class)) {
+            return variable;
+        }
+
+        final Class<?> owner = (Class<?>) declaration;
+        final int index = variable.getIndex();
+        if (context.getDeclaredType() == owner) {
+            if (context instanceof TypeToken.Parameterized) {
+                final TypeToken<?>[] arguments = ((TypeToken.Parameterized<?>) context).getTypeArguments();
+                return index < arguments.length ? arguments[index] : variable;
+            }
+
+            return variable;
+        }
+
+        final ParameterizedType supertype = findSupertype(context.getDeclaredType(), owner);
+        if (supertype == null) {
+            return variable;
+        }
+
+        // The argument can only reference type variables of classes between the context and the owner, which are resolved in turn
+        return substitute(context, TypeToken.convert(supertype.getActualTypeArguments()[index]), depth + 1);
+    }
+
+    private static ParameterizedType findSupertype(Class<?> clazz, Class<?> owner) {
+        if (!owner.isAssignableFrom(clazz)) {
+            return null;
+        }
+
+        final ParameterizedType superclass = findSupertype(clazz.getGenericSuperclass(), owner);
+        if (superclass != null) {
+            return superclass;
+        }
+
+        for (final Type genericInterface : clazz.getGenericInterfaces()) {
+            final ParameterizedType found = findSupertype(genericInterface, owner);
+            if (found != null) {
+                return found;
+            }
+        }
+
+        return null;
+    }
+
+    private static ParameterizedType findSupertype(Type supertype, Class<?> owner) {
+        if (supertype instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) supertype;
+            final Class<?> raw = (Class<?>) parameterized.getRawType();
+            return raw == owner ? parameterized : findSupertype(raw, owner);
+        }
+
+        return supertype instanceof Class ? findSupertype((Class<?>) supertype, owner) : null;
+    }
+
+    @FunctionalInterface
+    private interface MemberType {
+        TypeToken<?> get();
+    }
+
+    /**
+     * The memoized results of the members declared by a class, per context.
+     */
+    private static final class MemberCache extends ClassValue<WeakTokenCache<Map<Member, TypeToken<?>>>> {
+        /**
+         * Shared by the memos of all classes, so resolving any member expunges the collected contexts of every class.
+         */
+        private final ReferenceQueue<TypeToken<?>> queue;
+
+        private MemberCache(ReferenceQueue<TypeToken<?>> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        protected WeakTokenCache<Map<Member, TypeToken<?>>> computeValue(Class<?> declaringClass) {
+            return new WeakTokenCache<>(this.queue);
+        }
+    }
+}
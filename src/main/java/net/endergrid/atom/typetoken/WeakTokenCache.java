@@ -0,0 +1,129 @@
+package net.endergrid.atom.typetoken;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent cache keyed weakly by {@link TypeToken}.
+ * <p>
+ * Lookups are lock-free reads of a {@link ConcurrentHashMap}. Entries whose token got collected are expunged on the next access,
+ * caches sharing a {@link ReferenceQueue} expunge each other's entries, so a cache that is never accessed again is still cleaned up.
+ * The values are held strongly and must therefore not reference their token.
+ *
+ * @param <V> the type of the cached values
+ */
+final class WeakTokenCache<V> {
+    private final ConcurrentHashMap<Key, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<TypeToken<?>> queue;
+
+    WeakTokenCache() {
+        this(new ReferenceQueue<>());
+    }
+
+    /**
+     * @param queue the queue collected tokens are enqueued to, shared by caches that expunge each other's entries
+     */
+    WeakTokenCache(ReferenceQueue<TypeToken<?>> queue) {
+        this.queue = queue;
+    }
+
+    @Nullable
+    V get(TypeToken<?> typeToken) {
+        this.expunge();
+        return this.map.get(new LookupKey(typeToken));
+    }
+
+    void put(TypeToken<?> typeToken, V value) {
+        this.expunge();
+        this.map.put(new WeakKey(typeToken, this.queue, this.map), value);
+    }
+
+    /**
+     * @return the value already cached for the token, or the given value if it got cached
+     */
+    V putIfAbsent(TypeToken<?> typeToken, V value) {
+        this.expunge();
+        final V existing = this.map.putIfAbsent(new WeakKey(typeToken, this.queue, this.map), value);
+        return existing == null ? value : existing;
+    }
+
+    private void expunge() {
+        Reference<? extends TypeToken<?>> reference;
+        while ((reference = this.queue.poll()) != null) {
+            final WeakKey key = (WeakKey) reference;
+            key.owner.remove(key);
+        }
+    }
+
+    private interface Key {
+        @Nullable
+        TypeToken<?> token();
+
+        static boolean equals(Key key, Object other) {
+            if (key == other) {
+                return true;
+            }
+
+            if (!(other instanceof Key) || key.hashCode() != other.hashCode()) {
+                return false;
+            }
+
+            final TypeToken<?> token = key.token();
+            return token != null && token.equals(((Key) other).token());
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<TypeToken<?>> implements Key {
+        private final int hash;
+        private final Map<Key, ?> owner;
+
+        private WeakKey(TypeToken<?> typeToken, ReferenceQueue<TypeToken<?>> queue, Map<Key, ?> owner) {
+            super(typeToken, queue);
+            this.hash = typeToken.hashCode();
+            this.owner = owner;
+        }
+
+        @Override
+        public TypeToken<?> token() {
+            return this.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.equals(this, other);
+        }
+    }
+
+    private static final class LookupKey implements Key {
+        private final TypeToken<?> typeToken;
+
+        private LookupKey(TypeToken<?> typeToken) {
+            this.typeToken = typeToken;
+        }
+
+        @Override
+        public TypeToken<?> token() {
+            return this.typeToken;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.typeToken.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return Key.equals(this, other);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package net.endergrid.atom.typetoken;
+
+import net.endergrid.atom.Atom;
+import net.endergrid.atom.singleton.AtomSingletonRegistry;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A minimal {@link TypeTokenFactory} for tests, creating canonical proxy tokens that only carry top level annotations.
+ * {@link #install()} registers it as the factory of a bare {@link Atom}.
+ */
+final class TestTypeTokenFactory implements TypeTokenFactory {
+    private static final TestTypeTokenFactory INSTANCE = new TestTypeTokenFactory();
+    private static final TypeToken<?>[] NONE = new TypeToken<?>[0];
+    private static boolean installed;
+
+    private final Map<String, TypeToken<?>> canonical = new ConcurrentHashMap<>();
+
+    static synchronized void install() {
+        if (!installed) {
+            final AtomSingletonRegistry registry = (AtomSingletonRegistry) Proxy.newProxyInstance(TestTypeTokenFactory.class.getClassLoader(),
+                    new Class<?>[]{AtomSingletonRegistry.class}, (proxy, method, args) -> method.getName().equals("getSingleton") ? INSTANCE : null);
+            Bootstrap.install((Atom) Proxy.newProxyInstance(TestTypeTokenFactory.class.getClassLoader(),
+                    new Class<?>[]{Atom.class}, (proxy, method, args) -> method.getName().equals("getSingletonManager") ? registry : null));
+            installed = true;
+        }
+    }
+
+    @Override
+    public <T> TypeToken<T> create(Type type, AnnotatedElement annotatedElement) {
+        return this.create(type, annotatedElement == null ? new Annotation[0] : annotatedElement.getDeclaredAnnotations());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeToken<T> create(Type type, Annotation[] annotations) {
+        return (TypeToken<T>) this.convert(type).withAnnotations(annotations);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeToken<T> intern(TypeToken<T> token) {
+        final TypeToken<?> existing = this.canonical.putIfAbsent(token.toString(), token);
+        return existing == null ? token : (TypeToken<T>) existing;
+    }
+
+    private TypeToken<?> convert(Type type) {
+        if (type instanceof TypeToken) {
+            return (TypeToken<?>) type;
+        }
+
+        if (type instanceof Class) {
+            return this.token(new State(TypeToken.Declared.class, (Class<?>) type));
+        }
+
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) type;
+            final State state = new State(TypeToken.Parameterized.class, (Class<?>) parameterized.getRawType());
+            state.generics = this.convertAll(parameterized.getActualTypeArguments());
+            return this.token(state);
+        }
+
+        if (type instanceof WildcardType) {
+            final WildcardType wildcard = (WildcardType) type;
+            final State state = new State(TypeToken.Wildcard.class, erase(wildcard.getUpperBounds()[0]));
+            state.generics = this.convertAll(wildcard.getUpperBounds());
+            state.lowerBounds = this.convertAll(wildcard.getLowerBounds());
+            return this.token(state);
+        }
+
+        if (type instanceof TypeVariable) {
+            final TypeVariable<?> variable = (TypeVariable<?>) type;
+            final State state = new State(TypeToken.TypeVar.class, erase(variable.getBounds()[0]));
+            state.variable = variable;
+            return this.token(state);
+        }
+
+        if (type instanceof GenericArrayType) {
+            final TypeToken<?> componentType = this.convert(((GenericArrayType) type).getGenericComponentType());
+            final State state = new State(TypeToken.GenericArray.class, Array.newInstance(componentType.getDeclaredType(), 0).getClass());
+            state.generics = new TypeToken<?>[]{componentType};
+            return this.token(state);
+        }
+
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+
+    private TypeToken<?>[] convertAll(Type[] types) {
+        return Arrays.stream(types).map(this::convert).toArray(TypeToken<?>[]::new);
+    }
+
+    private TypeToken<?> token(State state) {
+        return this.intern((TypeToken<?>) Proxy.newProxyInstance(TestTypeTokenFactory.class.getClassLoader(), new Class<?>[]{state.kind},
+                (proxy, method, args) -> state.invoke(this, proxy, method.getName(), args)));
+    }
+
+    private static Class<?> erase(Type type) {
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+
+        return type instanceof Class ? (Class<?>) type : Object.class;
+    }
+
+    private static final class State implements Cloneable {
+        private final Class<?> kind;
+        private final Class<?> declaredType;
+        private TypeToken<?>[] generics = NONE;
+        private TypeToken<?>[] lowerBounds = NONE;
+        private TypeVariable<?> variable;
+        private Map<Class<? extends Annotation>, Annotation> annotations = new LinkedHashMap<>();
+
+        private State(Class<?> kind, Class<?> declaredType) {
+            this.kind = kind;
+            this.declaredType = declaredType;
+        }
+
+        private Object invoke(TestTypeTokenFactory factory, Object proxy, String method, Object[] args) {
+            switch (method) {
+                case "getDeclaredType":
+                    return this.declaredType;
+                case "isSuperClassOfDeclaredType":
+                    return ((Class<?>) args[0]).isAssignableFrom(this.declaredType);
+                case "isWithinBounds":
+                    return this.declaredType.isAssignableFrom((Class<?>) args[0]);
+                case "getGenerics":
+                case "getTypeArguments":
+                case "getUpperBounds":
+                    return this.generics.clone();
+                case "getLowerBounds":
+                    return this.lowerBounds.clone();
+                case "getComponentType":
+                    return this.generics[0];
+                case "getName":
+                    return this.variable.getName();
+                case "getGenericDeclaration":
+                    return this.variable.getGenericDeclaration();
+                case "getIndex":
+                    return Arrays.asList(this.variable.getGenericDeclaration().getTypeParameters()).indexOf(this.variable);
+                case "getDeclaredAnnotations":
+                case "getAnnotations":
+                    return this.annotations.values().toArray(new Annotation[0]);
+                case "withParams":
+                case "withComponentType":
+                    return factory.token(this.with(args[0] instanceof TypeToken ? new TypeToken<?>[]{(TypeToken<?>) args[0]} : (TypeToken<?>[]) args[0], this.lowerBounds));
+                case "withBounds":
+                    return factory.token(this.with((TypeToken<?>[]) args[0], (TypeToken<?>[]) args[1]));
+                case "withAnnotations":
+                    return this.withAnnotations(factory, proxy, (Annotation[]) args[0]);
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return this.describe();
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        }
+
+        private State with(TypeToken<?>[] generics, TypeToken<?>[] lowerBounds) {
+            final Class<?> declaredType = this.kind == TypeToken.GenericArray.class ? Array.newInstance(generics[0].getDeclaredType(), 0).getClass() : this.declaredType;
+            final State state = new State(this.kind, declaredType);
+            state.variable = this.variable;
+            state.annotations = this.annotations;
+            state.generics = generics.clone();
+            state.lowerBounds = lowerBounds.clone();
+            return state;
+        }
+
+        private Object withAnnotations(TestTypeTokenFactory factory, Object proxy, Annotation[] annotations) {
+            if (annotations.length == 0) {
+                return proxy;
+            }
+
+            final State state = this.copy();
+            state.annotations = new LinkedHashMap<>(this.annotations);
+            for (final Annotation annotation : annotations) {
+                state.annotations.put(annotation.annotationType(), annotation);
+            }
+
+            return factory.token(state);
+        }
+
+        private State copy() {
+            try {
+                return (State) this.clone();
+            } catch (CloneNotSupportedException exception) {
+                throw new AssertionError(exception);
+            }
+        }
+
+        private String describe() {
+            final String annotations = this.annotations.keySet().stream().map(type -> "@" + type.getName() + " ").collect(Collectors.joining());
+            if (this.kind == TypeToken.Parameterized.class) {
+                return annotations + this.declaredType.getName() + Arrays.toString(this.generics);
+            }
+
+            if (this.kind == TypeToken.Wildcard.class) {
+                return annotations + "? extends " + Arrays.toString(this.generics) + " super " + Arrays.toString(this.lowerBounds);
+            }
+
+            if (this.kind == TypeToken.GenericArray.class) {
+                return annotations + this.generics[0] + "[]";
+            }
+
+            if (this.variable != null) {
+                final GenericDeclaration declaration = this.variable.getGenericDeclaration();
+                return annotations + declaration + "#" + this.variable.getName();
+            }
+
+            return annotations + this.declaredType.getName();
+        }
+    }
+
+    private static final class Bootstrap extends Atom.Instance {
+        private static void install(Atom atom) {
+            setInstance(atom);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package net.endergrid.atom.typetoken;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TypeTokenMapTest {
+    @BeforeAll
+    static void installFactory() {
+        TestTypeTokenFactory.install();
+    }
+
+    @Test
+    void parameterizedKeyAcceptsSubclassQuery() {
+        final TypeTokenMap<String> map = new TypeTokenMap<>();
+        map.put(new TypeToken.Capturing<List<String>>() {}.getCapturedToken(), "strings");
+
+        assertEquals("strings", map.get(new TypeToken.Capturing<ArrayList<String>>() {}.getCapturedToken()));
+        assertEquals("strings", map.get(TypeToken.convert(StringList.class)));
+        assertNull(map.get(new TypeToken.Capturing<ArrayList<Integer>>() {}.getCapturedToken()));
+    }
+
+    @Test
+    void wildcardKeyAcceptsArgumentsWithinBounds() {
+        final TypeTokenMap<String> map = new TypeTokenMap<>();
+        map.put(new TypeToken.Capturing<List<? extends CharSequence>>() {}.getCapturedToken(), "charSequences");
+
+        assertEquals("charSequences", map.get(new TypeToken.Capturing<ArrayList<String>>() {}.getCapturedToken()));
+        assertEquals("charSequences", map.get(new TypeToken.Capturing<List<StringBuilder>>() {}.getCapturedToken()));
+        assertNull(map.get(new TypeToken.Capturing<ArrayList<Integer>>() {}.getCapturedToken()));
+    }
+
+    @Test
+    void rawQueryOnlyMatchesUnboundedKeys() {
+        final TypeTokenMap<String> map = new TypeTokenMap<>();
+        map.put(new TypeToken.Capturing<List<String>>() {}.getCapturedToken(), "strings");
+
+        assertNull(map.get(TypeToken.convert(ArrayList.class)));
+
+        map.put(new TypeToken.Capturing<List<?>>() {}.getCapturedToken(), "any");
+        assertEquals("any", map.get(TypeToken.convert(ArrayList.class)));
+    }
+
+    @Test
+    void mostSpecificKeyWins() {
+        final TypeTokenMap<String> map = new TypeTokenMap<>();
+        map.put(TypeToken.convert(Object.class), "object");
+        map.put(new TypeToken.Capturing<Collection<?>>() {}.getCapturedToken(), "collection");
+        map.put(new TypeToken.Capturing<List<? extends CharSequence>>() {}.getCapturedToken(), "charSequences");
+        map.put(new TypeToken.Capturing<List<String>>() {}.getCapturedToken(), "strings");
+
+        assertEquals("strings", map.get(new TypeToken.Capturing<ArrayList<String>>() {}.getCapturedToken()));
+        assertEquals("charSequences", map.get(new TypeToken.Capturing<ArrayList<StringBuilder>>() {}.getCapturedToken()));
+        assertEquals("collection", map.get(new TypeToken.Capturing<HashSet<String>>() {}.getCapturedToken()));
+        assertEquals("object", map.get(TypeToken.convert(Integer.class)));
+    }
+
+    @Test
+    void mutationsInvalidateLookups() {
+        final TypeTokenMap<String> map = new TypeTokenMap<>();
+        final TypeToken<?> query = new TypeToken.Capturing<ArrayList<String>>() {}.getCapturedToken();
+        map.put(TypeToken.convert(Object.class), "object");
+        assertEquals("object", map.get(query));
+
+        map.put(new TypeToken.Capturing<List<String>>() {}.getCapturedToken(), "strings");
+        assertEquals("strings", map.get(query));
+
+        map.remove(TypeToken.convert(Object.class));
+        map.remove(new TypeToken.Capturing<List<String>>() {}.getCapturedToken());
+        assertNull(map.get(query));
+    }
+
+    private static final class StringList extends ArrayList<String> {
+    }
+}
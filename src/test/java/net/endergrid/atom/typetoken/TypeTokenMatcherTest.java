@@ -0,0 +1,106 @@
+package net.endergrid.atom.typetoken;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeTokenMatcherTest {
+    private static final TypeToken<?> DECLARED = token(TypeToken.Declared.class);
+    private static final TypeToken<?> PARAMETERIZED = token(TypeToken.Parameterized.class, DECLARED);
+    private static final TypeToken<?> TYPE_VAR = token(TypeToken.UnresolvedTypeVar.class);
+    private static final TypeToken<?> RESOLVED_TYPE_VAR = token(TypeToken.ResolvedTypeVar.class, DECLARED);
+
+    @Test
+    void andMatchesTokensCarryingBothKinds() {
+        final TypeTokenMatcher<?> matcher = TypeTokenMatcher.isTypeVar().and(TypeTokenMatcher.isGeneric());
+
+        assertTrue(matches(matcher, RESOLVED_TYPE_VAR));
+        assertFalse(matches(matcher, TYPE_VAR));
+        assertFalse(matches(matcher, PARAMETERIZED));
+    }
+
+    @Test
+    void orMatchesTokensOfEitherKind() {
+        final TypeTokenMatcher<?> matcher = TypeTokenMatcher.isDeclared().or(TypeTokenMatcher.isTypeVar());
+
+        assertTrue(matches(matcher, DECLARED));
+        assertTrue(matches(matcher, TYPE_VAR));
+        assertTrue(matches(matcher, RESOLVED_TYPE_VAR));
+        assertFalse(matches(matcher, PARAMETERIZED));
+    }
+
+    @Test
+    void registryResolvesComposedMatchers() {
+        final TypeTokenMatcherRegistry<String> registry = new TypeTokenMatcherRegistry<>();
+        registry.register(TypeTokenMatcher.isTypeVar().and(TypeTokenMatcher.isGeneric()), "resolvedTypeVar");
+        registry.register(TypeTokenMatcher.isDeclared(), "declared");
+
+        assertEquals("resolvedTypeVar", registry.resolve(RESOLVED_TYPE_VAR));
+        assertEquals("declared", registry.resolve(DECLARED));
+        assertNull(registry.resolve(TYPE_VAR));
+    }
+
+    @Test
+    void registryKeepsRegistrationOrder() {
+        final TypeTokenMatcherRegistry<String> registry = new TypeTokenMatcherRegistry<>();
+        registry.register(TypeTokenMatcher.isGeneric(), "generic");
+        registry.register(TypeTokenMatcher.isTypeVar(), "typeVar");
+
+        assertEquals("generic", registry.resolve(RESOLVED_TYPE_VAR));
+        assertEquals("typeVar", registry.resolve(TYPE_VAR));
+
+        registry.remove("generic");
+        assertEquals("typeVar", registry.resolve(RESOLVED_TYPE_VAR));
+    }
+
+    @Test
+    void isSuperClassAsksTypeVarsForEveryBound() {
+        // <T extends Serializable & Comparable<T>>, the declared type is only the first bound
+        final TypeToken<?> typeVar = (TypeToken<?>) Proxy.newProxyInstance(TypeTokenMatcherTest.class.getClassLoader(), new Class<?>[]{TypeToken.UnresolvedTypeVar.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getDeclaredType":
+                    return Serializable.class;
+                case "isSuperClassOfDeclaredType":
+                    return args[0] == Serializable.class || args[0] == Comparable.class;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return null;
+            }
+        });
+
+        assertTrue(matches(TypeTokenMatcher.isSuperClass(Comparable.class), typeVar));
+        assertTrue(matches(TypeTokenMatcher.isAnySuperClass(Number.class, Comparable.class), typeVar));
+        assertFalse(matches(TypeTokenMatcher.isSuperClass(Number.class), typeVar));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean matches(TypeTokenMatcher<?> matcher, TypeToken<?> typeToken) {
+        return ((TypeTokenMatcher<TypeToken<?>>) matcher).test(typeToken);
+    }
+
+    private static TypeToken<?> token(Class<?> kind, TypeToken<?>... generics) {
+        return (TypeToken<?>) Proxy.newProxyInstance(TypeTokenMatcherTest.class.getClassLoader(), new Class<?>[]{kind}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getGenerics":
+                    return generics;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return kind.getSimpleName();
+                default:
+                    return null;
+            }
+        });
+    }
+}
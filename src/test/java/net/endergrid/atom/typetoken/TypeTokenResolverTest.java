@@ -0,0 +1,96 @@
+package net.endergrid.atom.typetoken;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypeTokenResolverTest {
+    private static final TypeTokenResolver RESOLVER = new TypeTokenResolver();
+
+    @BeforeAll
+    static void installFactory() {
+        TestTypeTokenFactory.install();
+    }
+
+    @Test
+    void resolvesMembersThroughInterfaces() throws NoSuchMethodException {
+        final TypeToken<?> context = TypeToken.convert(UserRepo.class);
+
+        assertSame(new TypeToken.Capturing<List<User>>() {}.getCapturedToken(), RESOLVER.resolveReturnType(context, Repo.class.getMethod("all")));
+        assertSame(new TypeToken.Capturing<Map<UUID, ? extends User>>() {}.getCapturedToken(), RESOLVER.resolveReturnType(context, Repo.class.getMethod("byId")));
+    }
+
+    @Test
+    void resolvesFieldsThroughSuperclasses() throws NoSuchFieldException {
+        final TypeToken<?> context = TypeToken.convert(UserRepo.class);
+
+        assertSame(TypeToken.convert(User.class), RESOLVER.resolveField(context, BaseRepo.class.getDeclaredField("first")));
+        assertSame(User[].class, RESOLVER.resolveField(context, BaseRepo.class.getDeclaredField("all")).getDeclaredType());
+    }
+
+    @Test
+    void keepsUseSiteAnnotations() throws NoSuchFieldException {
+        final TypeToken<?> resolved = RESOLVER.resolveField(TypeToken.convert(UserRepo.class), BaseRepo.class.getDeclaredField("last"));
+
+        assertSame(User.class, resolved.getDeclaredType());
+        assertInstanceOf(Marked.class, resolved.getDeclaredAnnotations()[0]);
+    }
+
+    @Test
+    void keepsUnresolvableVariables() throws NoSuchMethodException, NoSuchFieldException {
+        final TypeToken<?> methodVariable = RESOLVER.resolveReturnType(TypeToken.convert(UserRepo.class), BaseRepo.class.getDeclaredMethod("create"));
+        final TypeToken<?> rawContextVariable = RESOLVER.resolveField(TypeToken.convert(BaseRepo.class), BaseRepo.class.getDeclaredField("first"));
+
+        assertInstanceOf(TypeToken.TypeVar.class, methodVariable);
+        assertInstanceOf(TypeToken.TypeVar.class, rawContextVariable);
+    }
+
+    @Test
+    void resolvesSupertypes() {
+        final TypeToken<?> context = new TypeToken.Capturing<ArrayList<String>>() {}.getCapturedToken();
+        final TypeToken<?> supertype = RESOLVER.resolveSupertype(context, List.class);
+
+        assertSame(new TypeToken.Capturing<List<String>>() {}.getCapturedToken(), supertype);
+        assertArrayEquals(new TypeToken<?>[]{TypeToken.convert(String.class)}, ((TypeToken.Parameterized<?>) supertype).getTypeArguments());
+        assertSame(context, RESOLVER.resolveSupertype(context, ArrayList.class));
+        assertNull(RESOLVER.resolveSupertype(context, Map.class));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE_USE)
+    private @interface Marked {
+    }
+
+    private static final class User {
+    }
+
+    private interface Repo<E, ID> {
+        List<E> all();
+
+        Map<ID, ? extends E> byId();
+    }
+
+    private abstract static class BaseRepo<X> implements Repo<X, UUID> {
+        private X first;
+        private X[] all;
+        private @Marked X last;
+
+        abstract <M> M create();
+    }
+
+    private abstract static class UserRepo extends BaseRepo<User> {
+    }
+}